@@ -11,9 +11,4 @@ public class FantasyLeagueApplication {
 	public static void main(String[] args) {
 		SpringApplication.run(FantasyLeagueApplication.class, args);
 	}
-
-	@org.springframework.context.annotation.Bean
-	public org.springframework.web.client.RestTemplate restTemplate() {
-		return new org.springframework.web.client.RestTemplate();
-	}
 }
\ No newline at end of file
@@ -0,0 +1,193 @@
+package com.fantasyhockey.fantasy_league.client;
+
+import com.fantasyhockey.fantasy_league.dto.GameBoxscore;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Token-level parser for NHL boxscore JSON.
+ *
+ * Boxscores are several hundred KB each, but scoring only needs a handful of
+ * ints per player. Instead of databinding the whole document, this parser
+ * walks the token stream once, reads the team scores, game state and the
+ * {@code playerByGameStats} subtree, and skips everything else without
+ * materializing it.
+ */
+@Component
+public class BoxscoreStreamParser {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    /**
+     * Parses a boxscore document.
+     *
+     * @param gameId NHL game ID, used when the document does not contain one
+     * @param body   boxscore JSON
+     * @return compact boxscore with all skater and goalie stat lines
+     * @throws IOException if the document is not valid JSON
+     */
+    public GameBoxscore parse(long gameId, InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return parse(gameId, parser);
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private GameBoxscore parse(long gameId, JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Boxscore " + gameId + " is not a JSON object");
+        }
+
+        String gameState = null;
+        int awayScore = 0;
+        int homeScore = 0;
+        List<GameBoxscore.SkaterLine> skaters = new ArrayList<>(40);
+        List<GameBoxscore.GoalieLine> goalies = new ArrayList<>(4);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> gameId = parser.getValueAsLong(gameId);
+                case "gameState" -> gameState = parser.getValueAsString();
+                case "awayTeam" -> awayScore = readScore(parser);
+                case "homeTeam" -> homeScore = readScore(parser);
+                case "playerByGameStats" -> readPlayerStats(parser, skaters, goalies);
+                default -> parser.skipChildren();
+            }
+        }
+
+        return new GameBoxscore(gameId, gameState, awayScore, homeScore, skaters, goalies);
+    }
+
+    private int readScore(JsonParser parser) throws IOException {
+        int score = 0;
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return score;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("score".equals(field)) {
+                score = parser.getValueAsInt();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return score;
+    }
+
+    private void readPlayerStats(JsonParser parser, List<GameBoxscore.SkaterLine> skaters,
+            List<GameBoxscore.GoalieLine> goalies) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "awayTeam" -> readTeam(parser, false, skaters, goalies);
+                case "homeTeam" -> readTeam(parser, true, skaters, goalies);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private void readTeam(JsonParser parser, boolean home, List<GameBoxscore.SkaterLine> skaters,
+            List<GameBoxscore.GoalieLine> goalies) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "forwards", "defense" -> readSkaters(parser, home, skaters);
+                case "goalies" -> readGoalies(parser, home, goalies);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private void readSkaters(JsonParser parser, boolean home, List<GameBoxscore.SkaterLine> skaters)
+            throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token != JsonToken.START_OBJECT) {
+                // Not a stat line (e.g. null); skip it and keep reading the rest
+                parser.skipChildren();
+                continue;
+            }
+            long playerId = 0;
+            int goals = 0, assists = 0, plusMinus = 0, shots = 0, blockedShots = 0, hits = 0, pim = 0;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "playerId" -> playerId = parser.getValueAsLong();
+                    case "goals" -> goals = parser.getValueAsInt();
+                    case "assists" -> assists = parser.getValueAsInt();
+                    case "plusMinus" -> plusMinus = parser.getValueAsInt();
+                    case "sog" -> shots = parser.getValueAsInt();
+                    case "blockedShots" -> blockedShots = parser.getValueAsInt();
+                    case "hits" -> hits = parser.getValueAsInt();
+                    case "pim" -> pim = parser.getValueAsInt();
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (playerId != 0) {
+                skaters.add(new GameBoxscore.SkaterLine(playerId, home, goals, assists, plusMinus, shots,
+                        blockedShots, hits, pim));
+            }
+        }
+    }
+
+    private void readGoalies(JsonParser parser, boolean home, List<GameBoxscore.GoalieLine> goalies)
+            throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            long playerId = 0;
+            int saves = 0, shotsAgainst = 0;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "playerId" -> playerId = parser.getValueAsLong();
+                    case "saves" -> saves = parser.getValueAsInt();
+                    case "shotsAgainst" -> shotsAgainst = parser.getValueAsInt();
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (playerId != 0) {
+                goalies.add(new GameBoxscore.GoalieLine(playerId, home, saves, shotsAgainst));
+            }
+        }
+    }
+}
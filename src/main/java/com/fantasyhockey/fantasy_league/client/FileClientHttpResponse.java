@@ -0,0 +1,54 @@
+package com.fantasyhockey.fantasy_league.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * HTTP response whose body is streamed from a file on disk instead of the
+ * network. Used by the response cache for stored entries.
+ */
+class FileClientHttpResponse implements ClientHttpResponse {
+
+    private final HttpStatusCode statusCode;
+    private final HttpHeaders headers;
+    private final InputStream body;
+
+    FileClientHttpResponse(HttpStatusCode statusCode, HttpHeaders headers, InputStream body) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() {
+        return statusCode;
+    }
+
+    @Override
+    public String getStatusText() {
+        return "";
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public InputStream getBody() {
+        return body;
+    }
+
+    @Override
+    public void close() {
+        try {
+            body.close();
+        } catch (IOException e) {
+            // Nothing left to release
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.fantasyhockey.fantasy_league.client;
+
+import com.fantasyhockey.fantasy_league.dto.GameBoxscore;
+import com.fantasyhockey.fantasy_league.dto.NhlRosterResponse;
+import com.fantasyhockey.fantasy_league.dto.NhlScheduleResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Client for the official NHL web API (api-web.nhle.com).
+ * All NHL calls in the application go through this component, which provides:
+ * - a shared, pooled HTTP/2-capable connection layer
+ * - gzip compression negotiation
+ * - per-endpoint read timeouts, so a slow endpoint cannot pin request threads
+ * - retries with exponential backoff and full jitter for transient failures
+ */
+@Component
+public class NhlApiClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(NhlApiClient.class);
+    private static final String BASE_URL = "https://api-web.nhle.com/v1";
+
+    /**
+     * Game state after which a game's data never changes again. FINAL is not
+     * enough: stat corrections are still applied until the game goes OFF.
+     */
+    private static final String OFFICIAL_GAME_STATE = "OFF";
+
+    private final RestTemplate scheduleTemplate;
+    private final RestTemplate rosterTemplate;
+    private final RestTemplate boxscoreTemplate;
+    private final NhlResponseCache responseCache;
+    private final BoxscoreStreamParser boxscoreParser;
+
+    private final int maxAttempts;
+    private final long backoffBaseMs;
+
+    public NhlApiClient(HttpClient nhlHttpClient, NhlResponseCache responseCache, TrafficArchive trafficArchive,
+            BoxscoreStreamParser boxscoreParser,
+            @Value("${app.nhl.http.schedule-timeout-ms:5000}") int scheduleTimeoutMs,
+            @Value("${app.nhl.http.roster-timeout-ms:10000}") int rosterTimeoutMs,
+            @Value("${app.nhl.http.boxscore-timeout-ms:10000}") int boxscoreTimeoutMs,
+            @Value("${app.nhl.http.max-attempts:3}") int maxAttempts,
+            @Value("${app.nhl.http.backoff-base-ms:250}") long backoffBaseMs) {
+        // Outermost first: record/replay sees final bodies, cache stores decompressed ones
+        List<ClientHttpRequestInterceptor> interceptors = List.of(trafficArchive, responseCache,
+                new GzipDecompressingInterceptor());
+
+        this.scheduleTemplate = createTemplate(nhlHttpClient, scheduleTimeoutMs, interceptors);
+        this.rosterTemplate = createTemplate(nhlHttpClient, rosterTimeoutMs, interceptors);
+        this.boxscoreTemplate = createTemplate(nhlHttpClient, boxscoreTimeoutMs, interceptors);
+        this.responseCache = responseCache;
+        this.boxscoreParser = boxscoreParser;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffBaseMs = backoffBaseMs;
+    }
+
+    // ==================== Endpoints ====================
+
+    /**
+     * Fetches the current roster of an NHL team.
+     *
+     * @param teamAbbrev team abbreviation (e.g., "BOS")
+     * @return roster response, or null if the API returned no body
+     */
+    public NhlRosterResponse getRoster(String teamAbbrev) {
+        String url = BASE_URL + "/roster/" + teamAbbrev + "/current";
+        return withRetry(url, () -> rosterTemplate.getForObject(url, NhlRosterResponse.class));
+    }
+
+    /**
+     * Fetches the schedule week starting at the given date.
+     * Past schedule weeks whose games are all official are marked immutable
+     * in the response cache.
+     *
+     * @param date first day of the schedule
+     * @return schedule response, or null if the API returned no body
+     */
+    public NhlScheduleResponse getSchedule(LocalDate date) {
+        String url = BASE_URL + "/schedule/" + date;
+        NhlScheduleResponse response = withRetry(url,
+                () -> scheduleTemplate.getForObject(url, NhlScheduleResponse.class));
+
+        if (date.isBefore(LocalDate.now()) && isFinished(response)) {
+            responseCache.markImmutable(url);
+        }
+        return response;
+    }
+
+    /**
+     * Fetches the boxscore of a single game.
+     * The body is read with the streaming parser, which extracts only the
+     * scoring-relevant stat lines. Boxscores of official (OFF) games are
+     * marked immutable in the response cache.
+     *
+     * @param gameId NHL game ID
+     * @return compact boxscore, or null if the API returned no body
+     */
+    public GameBoxscore getBoxscore(Long gameId) {
+        String url = boxscoreUrl(gameId);
+        GameBoxscore boxscore = withRetry(url, () -> boxscoreTemplate.execute(url, HttpMethod.GET, null,
+                response -> boxscoreParser.parse(gameId, response.getBody())));
+
+        if (boxscore != null) {
+            markIfFinished(boxscore);
+        }
+        return boxscore;
+    }
+
+    /**
+     * Marks an official (OFF) game's boxscore as immutable in the response
+     * cache, so later imports read it from disk.
+     */
+    private void markIfFinished(GameBoxscore boxscore) {
+        if (boxscore.isOfficial()) {
+            responseCache.markImmutable(boxscoreUrl(boxscore.gameId()));
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private static String boxscoreUrl(long gameId) {
+        return BASE_URL + "/gamecenter/" + gameId + "/boxscore";
+    }
+
+    /**
+     * Checks whether a schedule contains at least one game and all of its
+     * games are official.
+     */
+    private static boolean isFinished(NhlScheduleResponse schedule) {
+        if (schedule == null || schedule.getGameWeek() == null) {
+            return false;
+        }
+        List<NhlScheduleResponse.GameDto> games = schedule.getGameWeek().stream()
+                .map(NhlScheduleResponse.GameWeekDto::getGames)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .toList();
+        return !games.isEmpty() && games.stream().allMatch(g -> OFFICIAL_GAME_STATE.equals(g.getGameState()));
+    }
+
+    private static RestTemplate createTemplate(HttpClient httpClient, int readTimeoutMs,
+            List<ClientHttpRequestInterceptor> interceptors) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.setInterceptors(interceptors);
+        return restTemplate;
+    }
+
+    /**
+     * Executes the call, retrying I/O errors, 5xx responses and 429 Too Many
+     * Requests. Waits between attempts using exponential backoff with full
+     * jitter, so parallel importers don't retry in lockstep.
+     */
+    private <T> T withRetry(String url, Supplier<T> call) {
+        for (int attempt = 1;; attempt++) {
+            try {
+                return call.get();
+            } catch (ResourceAccessException | HttpServerErrorException
+                    | HttpClientErrorException.TooManyRequests e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                long backoffMs = ThreadLocalRandom.current().nextLong((backoffBaseMs << (attempt - 1)) + 1);
+                logger.warn("NHL API {} selhalo ({}), pokus {}/{} za {} ms", url, e.getMessage(), attempt,
+                        maxAttempts, backoffMs);
+                sleep(backoffMs);
+            }
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RestClientException("Interrupted while waiting to retry NHL API call", e);
+        }
+    }
+}
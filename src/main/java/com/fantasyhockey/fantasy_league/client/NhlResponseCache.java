@@ -0,0 +1,238 @@
+package com.fantasyhockey.fantasy_league.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Properties;
+
+/**
+ * Persistent on-disk cache for NHL API responses, keyed by URL.
+ *
+ * For every cached GET the cache stores the body together with its ETag and
+ * Last-Modified validators, and revalidates with a conditional request
+ * (If-None-Match / If-Modified-Since). A 304 Not Modified answer is served
+ * from disk.
+ *
+ * Entries marked immutable (finished games, past schedule weeks) are served
+ * straight from disk without touching the network at all, so season
+ * reimports read local files.
+ *
+ * Each entry is two files in the cache directory: {@code <sha256>.body} and
+ * {@code <sha256>.meta}. Bodies are never held in memory: a fresh response is
+ * copied to disk while the caller reads it, and cached bodies are read
+ * straight from their file.
+ */
+@Component
+public class NhlResponseCache implements ClientHttpRequestInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(NhlResponseCache.class);
+
+    private static final String META_URL = "url";
+    private static final String META_ETAG = "etag";
+    private static final String META_LAST_MODIFIED = "lastModified";
+    private static final String META_CONTENT_TYPE = "contentType";
+    private static final String META_IMMUTABLE = "immutable";
+
+    private final boolean enabled;
+    private final Path directory;
+
+    public NhlResponseCache(@Value("${app.nhl.cache.enabled:true}") boolean enabled,
+            @Value("${app.nhl.cache.dir:${java.io.tmpdir}/fantasy-league/nhl-cache}") String directory) {
+        this.enabled = enabled;
+        this.directory = Path.of(directory);
+        if (enabled) {
+            try {
+                Files.createDirectories(this.directory);
+                logger.info("NHL API cache: {}", this.directory.toAbsolutePath());
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot create NHL API cache directory " + directory, e);
+            }
+        }
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!enabled || request.getMethod() != HttpMethod.GET) {
+            return execution.execute(request, body);
+        }
+
+        String url = request.getURI().toString();
+        Properties meta = readMeta(url);
+
+        if (meta != null) {
+            // Immutable entries never change upstream - skip the network entirely
+            if (Boolean.parseBoolean(meta.getProperty(META_IMMUTABLE))) {
+                return cachedResponse(url, meta);
+            }
+            if (meta.getProperty(META_ETAG) != null) {
+                request.getHeaders().setIfNoneMatch(meta.getProperty(META_ETAG));
+            }
+            if (meta.getProperty(META_LAST_MODIFIED) != null) {
+                request.getHeaders().set(HttpHeaders.IF_MODIFIED_SINCE, meta.getProperty(META_LAST_MODIFIED));
+            }
+        }
+
+        ClientHttpResponse response = execution.execute(request, body);
+
+        if (meta != null && response.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+            response.close();
+            return cachedResponse(url, meta);
+        }
+
+        if (response.getStatusCode().value() != HttpStatus.OK.value()) {
+            return response;
+        }
+
+        HttpHeaders headers = response.getHeaders();
+        Path tmp = Files.createTempFile(directory, "entry", ".tmp");
+        OutputStream copy;
+        try {
+            copy = Files.newOutputStream(tmp);
+        } catch (IOException e) {
+            Files.deleteIfExists(tmp);
+            return response;
+        }
+        return new TeeClientHttpResponse(response, copy, complete -> store(url, headers, tmp, complete));
+    }
+
+    /**
+     * Marks a cached URL as immutable. Subsequent requests for it are served
+     * from disk without revalidation.
+     *
+     * @param url the exact request URL
+     */
+    public void markImmutable(String url) {
+        if (!enabled) {
+            return;
+        }
+        Properties meta = readMeta(url);
+        if (meta == null || Boolean.parseBoolean(meta.getProperty(META_IMMUTABLE))) {
+            return;
+        }
+        meta.setProperty(META_IMMUTABLE, "true");
+        try {
+            writeAtomically(metaFile(url), out -> meta.store(out, null));
+        } catch (IOException e) {
+            logger.warn("Nelze označit {} jako neměnné: {}", url, e.getMessage());
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private ClientHttpResponse cachedResponse(String url, Properties meta) throws IOException {
+        HttpHeaders headers = new HttpHeaders();
+        if (meta.getProperty(META_CONTENT_TYPE) != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, meta.getProperty(META_CONTENT_TYPE));
+        }
+        return new FileClientHttpResponse(HttpStatus.OK, headers, Files.newInputStream(bodyFile(url)));
+    }
+
+    /**
+     * Stores a body copied to a temporary file, or drops it if the copy is
+     * incomplete.
+     */
+    private void store(String url, HttpHeaders headers, Path body, boolean complete) {
+        if (!complete) {
+            deleteQuietly(body);
+            return;
+        }
+
+        Properties meta = new Properties();
+        meta.setProperty(META_URL, url);
+        if (headers.getETag() != null) {
+            meta.setProperty(META_ETAG, headers.getETag());
+        }
+        if (headers.getFirst(HttpHeaders.LAST_MODIFIED) != null) {
+            meta.setProperty(META_LAST_MODIFIED, headers.getFirst(HttpHeaders.LAST_MODIFIED));
+        }
+        if (headers.getFirst(HttpHeaders.CONTENT_TYPE) != null) {
+            meta.setProperty(META_CONTENT_TYPE, headers.getFirst(HttpHeaders.CONTENT_TYPE));
+        }
+
+        try {
+            // Body first, so a meta file never points at a missing body
+            Files.move(body, bodyFile(url), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            writeAtomically(metaFile(url), out -> meta.store(out, null));
+        } catch (IOException e) {
+            logger.warn("Nelze uložit odpověď {} do cache: {}", url, e.getMessage());
+            deleteQuietly(body);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Leftover temp files are harmless
+        }
+    }
+
+    private Properties readMeta(String url) {
+        Path metaFile = metaFile(url);
+        if (!Files.exists(metaFile) || !Files.exists(bodyFile(url))) {
+            return null;
+        }
+        Properties meta = new Properties();
+        try (InputStream in = Files.newInputStream(metaFile)) {
+            meta.load(in);
+            return meta;
+        } catch (IOException e) {
+            logger.warn("Poškozený záznam cache pro {}: {}", url, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeAtomically(Path target, ContentWriter writer) throws IOException {
+        Path tmp = Files.createTempFile(directory, "entry", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                writer.write(out);
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private Path bodyFile(String url) {
+        return directory.resolve(key(url) + ".body");
+    }
+
+    private Path metaFile(String url) {
+        return directory.resolve(key(url) + ".meta");
+    }
+
+    private static String key(String url) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(url.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ContentWriter {
+        void write(OutputStream out) throws IOException;
+    }
+}
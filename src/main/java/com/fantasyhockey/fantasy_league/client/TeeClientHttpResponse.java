@@ -0,0 +1,162 @@
+package com.fantasyhockey.fantasy_league.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Response wrapper that copies the body to a side stream while the caller
+ * reads it, so the response cache and the traffic recorder can keep a copy
+ * without buffering the body in memory.
+ *
+ * Whatever the caller leaves unread is drained into the copy on close. The
+ * listener then learns whether the copy holds the complete body. A failing
+ * copy never breaks the caller's read; it only makes the copy incomplete.
+ */
+class TeeClientHttpResponse implements ClientHttpResponse {
+
+    /**
+     * Told once, after the copy stream has been closed.
+     */
+    @FunctionalInterface
+    interface CopyListener {
+        void copied(boolean complete);
+    }
+
+    private final ClientHttpResponse delegate;
+    private final OutputStream copy;
+    private final CopyListener listener;
+    private InputStream body;
+    private boolean copyFailed;
+    private boolean finished;
+
+    TeeClientHttpResponse(ClientHttpResponse delegate, OutputStream copy, CopyListener listener) {
+        this.delegate = delegate;
+        this.copy = copy;
+        this.listener = listener;
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+        return delegate.getStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+        return delegate.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return delegate.getHeaders();
+    }
+
+    @Override
+    public synchronized InputStream getBody() throws IOException {
+        if (body == null) {
+            body = new TeeInputStream(delegate.getBody());
+        }
+        return body;
+    }
+
+    @Override
+    public void close() {
+        finish();
+        delegate.close();
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private synchronized void finish() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+
+        boolean drained = false;
+        try (InputStream in = getBody()) {
+            byte[] buffer = new byte[8192];
+            while (in.read(buffer) >= 0) {
+                // read() copies every chunk
+            }
+            drained = true;
+        } catch (IOException e) {
+            copyFailed = true;
+        }
+        try {
+            copy.close();
+        } catch (IOException e) {
+            copyFailed = true;
+        }
+        listener.copied(drained && !copyFailed);
+    }
+
+    private void write(byte[] bytes, int off, int len) {
+        if (copyFailed) {
+            return;
+        }
+        try {
+            copy.write(bytes, off, len);
+        } catch (IOException e) {
+            copyFailed = true;
+        }
+    }
+
+    private class TeeInputStream extends FilterInputStream {
+
+        TeeInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                write(new byte[] { (byte) b }, 0, 1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                write(b, off, n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // Skipped bytes still belong in the copy
+            byte[] buffer = new byte[(int) Math.min(8192, Math.max(n, 1))];
+            long skipped = 0;
+            while (skipped < n) {
+                int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+                if (read < 0) {
+                    break;
+                }
+                skipped += read;
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!finished) {
+                finish();
+            }
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package com.fantasyhockey.fantasy_league.client;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Record/replay of outgoing NHL API and ESPN traffic for offline load testing.
+ *
+ * Modes ({@code app.traffic.mode}):
+ * - OFF: requests go to the network as usual
+ * - RECORD: every response is appended to a compressed ZIP archive as soon
+ * as it arrives; the index is written and the archive replaced on shutdown
+ * (existing recordings are kept and extended)
+ * - REPLAY: responses are served from the archive with no network access,
+ * after a configurable artificial latency, so full-season imports can be
+ * benchmarked reproducibly
+ *
+ * The archive holds one deflated entry per response plus an
+ * {@code index.properties} entry with the URL, status and content type of
+ * each recording. While recording, only the index lives in memory; a URL
+ * recorded again leaves its older entry unreferenced until the next start
+ * copies the live entries into a fresh archive.
+ */
+@Component
+public class TrafficArchive implements ClientHttpRequestInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrafficArchive.class);
+    private static final String INDEX_ENTRY = "index.properties";
+
+    public enum Mode {
+        OFF, RECORD, REPLAY
+    }
+
+    /**
+     * Loads a text resource from the network (used for Jsoup pages).
+     */
+    @FunctionalInterface
+    public interface TextFetcher {
+        String fetch() throws IOException;
+    }
+
+    private final Mode mode;
+    private final Path archive;
+    private final long latencyMs;
+    private final long jitterMs;
+    private final Map<String, Recording> recordings = new ConcurrentHashMap<>();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    /**
+     * RECORD mode: the archive being written next to the real one, and what
+     * it holds per URL. Guarded by this archive's monitor.
+     */
+    private Path pending;
+    private ZipOutputStream recorder;
+    private final Map<String, IndexEntry> recorded = new HashMap<>();
+    private int nextEntry;
+
+    public TrafficArchive(@Value("${app.traffic.mode:off}") String mode,
+            @Value("${app.traffic.archive:traffic-archive.zip}") String archive,
+            @Value("${app.traffic.replay-latency-ms:0}") long latencyMs,
+            @Value("${app.traffic.replay-jitter-ms:0}") long jitterMs) throws IOException {
+        this.mode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        this.archive = Path.of(archive);
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+
+        if (this.mode == Mode.REPLAY && Files.exists(this.archive)) {
+            load();
+        }
+        if (this.mode == Mode.REPLAY && recordings.isEmpty()) {
+            throw new IllegalStateException("Replay mode requires a recorded archive at " + this.archive);
+        }
+        if (this.mode == Mode.RECORD) {
+            startRecording();
+        }
+        if (this.mode != Mode.OFF) {
+            logger.info("🎞️ Traffic {} - archiv {} ({} záznamů)", this.mode, this.archive,
+                    this.mode == Mode.REPLAY ? recordings.size() : recorded.size());
+        }
+    }
+
+    // ==================== RestTemplate Traffic ====================
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String url = request.getURI().toString();
+
+        if (mode == Mode.REPLAY) {
+            Recording recording = replay(url);
+            HttpHeaders headers = new HttpHeaders();
+            if (recording.contentType() != null) {
+                headers.set(HttpHeaders.CONTENT_TYPE, recording.contentType());
+            }
+            return new BufferedClientHttpResponse(HttpStatusCode.valueOf(recording.status()), headers,
+                    recording.body());
+        }
+
+        ClientHttpResponse response = execution.execute(request, body);
+        if (mode == Mode.OFF) {
+            return response;
+        }
+
+        // Spool the body to a temp file while the caller reads it, then append it in one go
+        int status = response.getStatusCode().value();
+        String contentType = response.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE);
+        Path spool = Files.createTempFile(archive.toAbsolutePath().getParent(), "traffic", ".body");
+        return new TeeClientHttpResponse(response, Files.newOutputStream(spool), complete -> {
+            try {
+                if (complete) {
+                    try (InputStream in = Files.newInputStream(spool)) {
+                        record(url, status, contentType, in);
+                    }
+                }
+            } catch (IOException e) {
+                logger.warn("Záznam {} nelze uložit: {}", url, e.getMessage());
+            } finally {
+                try {
+                    Files.deleteIfExists(spool);
+                } catch (IOException e) {
+                    // Leftover temp files are harmless
+                }
+            }
+        });
+    }
+
+    // ==================== Jsoup Traffic ====================
+
+    /**
+     * Loads a text document (e.g. an HTML page for Jsoup) through the archive.
+     *
+     * @param url     URL of the document, used as the recording key
+     * @param fetcher performs the real network call in OFF and RECORD modes
+     * @return document content
+     * @throws IOException if the fetch fails or no recording exists in REPLAY
+     *                     mode
+     */
+    public String fetchText(String url, TextFetcher fetcher) throws IOException {
+        if (mode == Mode.REPLAY) {
+            return new String(replay(url).body(), StandardCharsets.UTF_8);
+        }
+
+        String text = fetcher.fetch();
+        if (mode == Mode.RECORD) {
+            record(url, 200, "text/html; charset=UTF-8",
+                    new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+        }
+        return text;
+    }
+
+    // ==================== Archive Persistence ====================
+
+    /**
+     * Completes the archive recorded so far and continues recording into a
+     * new one that starts with its entries. Only has an effect in RECORD
+     * mode.
+     *
+     * @throws IOException if the archive cannot be written
+     */
+    public synchronized void flush() throws IOException {
+        if (mode != Mode.RECORD || recorder == null) {
+            return;
+        }
+        finishRecording();
+        startRecording();
+    }
+
+    /**
+     * Writes the index and replaces the archive with the recorded one.
+     * Called automatically on shutdown in RECORD mode.
+     *
+     * @throws IOException if the archive cannot be written
+     */
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (mode == Mode.RECORD && recorder != null) {
+            finishRecording();
+        }
+    }
+
+    /**
+     * Opens a new pending archive and copies the live entries of the
+     * existing archive into it, one entry at a time.
+     */
+    private void startRecording() throws IOException {
+        Path directory = archive.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        pending = Files.createTempFile(directory, "traffic", ".tmp");
+        recorder = new ZipOutputStream(Files.newOutputStream(pending));
+        recorded.clear();
+        nextEntry = 0;
+
+        if (!Files.exists(archive)) {
+            return;
+        }
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            ZipEntry indexEntry = zip.getEntry(INDEX_ENTRY);
+            if (indexEntry == null) {
+                return;
+            }
+            Properties index = new Properties();
+            try (InputStream in = zip.getInputStream(indexEntry)) {
+                index.load(in);
+            }
+            for (String key : index.stringPropertyNames()) {
+                if (!key.endsWith(".url")) {
+                    continue;
+                }
+                String name = key.substring(0, key.length() - ".url".length());
+                ZipEntry entry = zip.getEntry(name);
+                if (entry == null) {
+                    continue;
+                }
+                int status = Integer.parseInt(index.getProperty(name + ".status", "200"));
+                try (InputStream in = zip.getInputStream(entry)) {
+                    writeEntry(index.getProperty(key), status, index.getProperty(name + ".contentType"), in);
+                }
+            }
+        }
+    }
+
+    private void finishRecording() throws IOException {
+        Properties index = new Properties();
+        recorded.forEach((url, entry) -> {
+            index.setProperty(entry.name() + ".url", url);
+            index.setProperty(entry.name() + ".status", String.valueOf(entry.status()));
+            if (entry.contentType() != null) {
+                index.setProperty(entry.name() + ".contentType", entry.contentType());
+            }
+        });
+        recorder.putNextEntry(new ZipEntry(INDEX_ENTRY));
+        index.store((OutputStream) recorder, null);
+        recorder.closeEntry();
+        recorder.close();
+        recorder = null;
+
+        Files.move(pending, archive, StandardCopyOption.REPLACE_EXISTING);
+        logger.info("🎞️ Uloženo {} záznamů do {}", recorded.size(), archive);
+    }
+
+    private synchronized void record(String url, int status, String contentType, InputStream body)
+            throws IOException {
+        if (recorder == null) {
+            // Already closed on shutdown
+            return;
+        }
+        writeEntry(url, status, contentType, body);
+    }
+
+    private void writeEntry(String url, int status, String contentType, InputStream body) throws IOException {
+        String name = "r" + (nextEntry++);
+        recorder.putNextEntry(new ZipEntry(name));
+        body.transferTo(recorder);
+        recorder.closeEntry();
+        recorded.put(url, new IndexEntry(name, status, contentType));
+    }
+
+    private void load() throws IOException {
+        Map<String, byte[]> bodies = new ConcurrentHashMap<>();
+        Properties index = new Properties();
+
+        try (ZipInputStream zip = new ZipInputStream(Files.newInputStream(archive))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (INDEX_ENTRY.equals(entry.getName())) {
+                    index.load(zip);
+                } else {
+                    bodies.put(entry.getName(), zip.readAllBytes());
+                }
+            }
+        }
+
+        bodies.forEach((name, body) -> {
+            String url = index.getProperty(name + ".url");
+            if (url != null) {
+                int status = Integer.parseInt(index.getProperty(name + ".status", "200"));
+                recordings.put(url, new Recording(status, index.getProperty(name + ".contentType"), body));
+            }
+        });
+    }
+
+    private Recording replay(String url) throws IOException {
+        Recording recording = recordings.get(url);
+        if (recording == null) {
+            misses.incrementAndGet();
+            throw new IOException("No recorded response for " + url);
+        }
+
+        long delay = latencyMs + (jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs + 1) : 0);
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted during simulated latency", e);
+            }
+        }
+        return recording;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * @return number of replayed requests that had no recording
+     */
+    public int getMisses() {
+        return misses.get();
+    }
+
+    private record Recording(int status, String contentType, byte[] body) {
+    }
+
+    private record IndexEntry(String name, int status, String contentType) {
+    }
+}
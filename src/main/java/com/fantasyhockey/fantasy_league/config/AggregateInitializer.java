@@ -0,0 +1,58 @@
+package com.fantasyhockey.fantasy_league.config;
+
+import com.fantasyhockey.fantasy_league.repository.MatchupRepository;
+import com.fantasyhockey.fantasy_league.repository.PlayerSeasonTotalsRepository;
+import com.fantasyhockey.fantasy_league.repository.PlayerStatsRepository;
+import com.fantasyhockey.fantasy_league.repository.TeamWeekScoreRepository;
+import com.fantasyhockey.fantasy_league.service.LineupSnapshotService;
+import com.fantasyhockey.fantasy_league.service.PlayerSeasonTotalsService;
+import com.fantasyhockey.fantasy_league.service.StandingsService;
+import com.fantasyhockey.fantasy_league.service.TeamWeekScoreService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Initializer that builds the derived aggregates on application startup
+ * when they are missing (first start after upgrading).
+ * Runs after the scoring rules are loaded, in dependency order:
+ * 1. roster snapshots of stat days recorded before snapshots existed
+ * 2. weekly team scores, if empty but stats exist
+ * 3. player season totals, if empty
+ * 4. standings, if no matchup result has been applied yet, so results are
+ * never counted twice
+ */
+@Component
+@Order(1)
+@RequiredArgsConstructor
+public class AggregateInitializer implements CommandLineRunner {
+
+    private final LineupSnapshotService lineupSnapshotService;
+    private final TeamWeekScoreService teamWeekScoreService;
+    private final PlayerSeasonTotalsService seasonTotalsService;
+    private final StandingsService standingsService;
+    private final TeamWeekScoreRepository weekScoreRepository;
+    private final PlayerStatsRepository statsRepository;
+    private final PlayerSeasonTotalsRepository totalsRepository;
+    private final MatchupRepository matchupRepository;
+
+    /**
+     * Executes on application startup to build missing aggregates.
+     *
+     * @param args command line arguments (not used)
+     */
+    @Override
+    public void run(String... args) {
+        lineupSnapshotService.freezeMissingRosters();
+        if (weekScoreRepository.count() == 0 && statsRepository.count() > 0) {
+            teamWeekScoreService.rebuild();
+        }
+        if (totalsRepository.count() == 0) {
+            seasonTotalsService.rebuild();
+        }
+        if (!matchupRepository.existsByResultAppliedTrue()) {
+            standingsService.rebuild();
+        }
+    }
+}
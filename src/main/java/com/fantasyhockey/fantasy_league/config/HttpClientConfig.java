@@ -0,0 +1,37 @@
+package com.fantasyhockey.fantasy_league.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP client configuration for calls to external APIs.
+ * Provides a single shared, pooled {@link HttpClient} so that every request
+ * to the NHL API reuses keep-alive connections (and HTTP/2 multiplexing
+ * where the server supports it) instead of opening a new connection.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    /**
+     * Shared JDK HTTP client used by all NHL API calls.
+     * Connections are pooled internally by the client and kept alive between
+     * requests; response handling runs on virtual threads.
+     *
+     * @param connectTimeoutMs maximum time to establish a connection
+     * @return configured HttpClient instance
+     */
+    @Bean
+    public HttpClient nhlHttpClient(@Value("${app.nhl.http.connect-timeout-ms:3000}") int connectTimeoutMs) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+}
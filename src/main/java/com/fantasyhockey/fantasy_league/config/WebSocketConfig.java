@@ -0,0 +1,27 @@
+package com.fantasyhockey.fantasy_league.config;
+
+import com.fantasyhockey.fantasy_league.controller.DraftRoomSocketHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * WebSocket endpoints of the application.
+ * The handshake is a normal HTTP request, so it goes through the security
+ * filter chain and only logged-in users can connect. Only same-origin
+ * connections are accepted (the default).
+ */
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final DraftRoomSocketHandler draftRoomSocketHandler;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(draftRoomSocketHandler, "/draft/ws");
+    }
+}
@@ -1,9 +1,16 @@
 package com.fantasyhockey.fantasy_league.controller;
 
+import com.fantasyhockey.fantasy_league.client.TrafficArchive;
 import com.fantasyhockey.fantasy_league.model.FantasyTeam;
+import com.fantasyhockey.fantasy_league.model.ScoringRule;
+import com.fantasyhockey.fantasy_league.model.ScoringStat;
+import com.fantasyhockey.fantasy_league.service.DraftRoomService;
 import com.fantasyhockey.fantasy_league.service.FantasyTeamService;
 import com.fantasyhockey.fantasy_league.service.NhlApiService;
+import com.fantasyhockey.fantasy_league.service.RescoringService;
 import com.fantasyhockey.fantasy_league.service.ScheduleService;
+import com.fantasyhockey.fantasy_league.service.ScoringRuleService;
+import com.fantasyhockey.fantasy_league.service.StandingsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -13,7 +20,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
+import java.io.IOException;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -31,9 +40,15 @@ public class AdminController {
     private final NhlApiService nhlApiService;
     private final FantasyTeamService fantasyTeamService;
     private final ScheduleService scheduleService;
+    private final TrafficArchive trafficArchive;
+    private final StandingsService standingsService;
+    private final RescoringService rescoringService;
+    private final DraftRoomService draftRoomService;
+    private final ScoringRuleService scoringRuleService;
 
     /**
-     * Displays the admin hub page with team overview.
+     * Displays the admin hub page with team overview and the active scoring
+     * rules.
      * 
      * @param model Spring MVC model
      * @return admin-hub template name
@@ -42,9 +57,50 @@ public class AdminController {
     public String adminHub(Model model) {
         List<FantasyTeam> teams = fantasyTeamService.getLeaderboard();
         model.addAttribute("teams", teams);
+        model.addAttribute("scoringRules", scoringRuleService.getEditableRules());
+        model.addAttribute("scoringVersion", scoringRuleService.current().getVersion());
         return "admin-hub";
     }
 
+    /**
+     * Publishes edited scoring rules as a new version. The form posts one row
+     * per statistic as parallel lists. Already recorded points keep their old
+     * values until the admin starts a rescore, which the success message
+     * offers.
+     * 
+     * @param stats      statistic of each row
+     * @param weights    points per unit of each row
+     * @param thresholds bonus threshold of each row (0 for no bonus)
+     * @param bonuses    bonus points of each row
+     * @return redirect to admin hub with success or error message
+     */
+    @PostMapping("/scoring/publish")
+    public String publishScoring(@RequestParam("stat") List<ScoringStat> stats,
+            @RequestParam("weight") List<Double> weights,
+            @RequestParam("threshold") List<Integer> thresholds,
+            @RequestParam("bonus") List<Double> bonuses) {
+        if (stats.size() != weights.size() || stats.size() != thresholds.size() || stats.size() != bonuses.size()) {
+            return "redirect:/admin?error=scoringInvalid";
+        }
+
+        List<ScoringRule> rules = new ArrayList<>(stats.size());
+        for (int i = 0; i < stats.size(); i++) {
+            if (weights.get(i) == null || thresholds.get(i) == null || bonuses.get(i) == null) {
+                return "redirect:/admin?error=scoringInvalid";
+            }
+            // Rows that score nothing are not stored
+            if (weights.get(i) != 0 || thresholds.get(i) != 0) {
+                rules.add(new ScoringRule(stats.get(i), weights.get(i), thresholds.get(i), bonuses.get(i)));
+            }
+        }
+        try {
+            scoringRuleService.publish(rules);
+        } catch (IllegalArgumentException e) {
+            return "redirect:/admin?error=scoringInvalid";
+        }
+        return "redirect:/admin?success=scoringPublished";
+    }
+
     /**
      * Triggers a background update of player statistics for a date range.
      * Useful for backfilling data or fixing missing stats.
@@ -98,16 +154,72 @@ public class AdminController {
     /**
      * Manually updates game week statuses (current/completed flags).
      * Useful for immediately updating the current week without waiting for daily
-     * cron job.
+     * cron job. Results of newly completed weeks are added to the standings.
      * 
      * @return redirect to admin hub with success message
      */
     @GetMapping("/update-weeks")
     public String updateGameWeeks() {
         scheduleService.updateGameWeekStatuses();
+        standingsService.applyCompletedWeeks();
         return "redirect:/admin?success=weeksUpdated";
     }
 
+    /**
+     * Recomputes the standings from all completed matchups.
+     * Use after correcting stats or matchup scores of past weeks.
+     * 
+     * @return redirect to admin hub with success message
+     */
+    @GetMapping("/rebuild-standings")
+    public String rebuildStandings() {
+        standingsService.rebuild();
+        return "redirect:/admin?success=standingsRebuilt";
+    }
+
+    /**
+     * Starts the live draft. While it runs, players can only be added through
+     * the draft room.
+     * 
+     * @return redirect to admin hub with success or error message
+     */
+    @GetMapping("/draft/start")
+    public String startDraft() {
+        try {
+            draftRoomService.start();
+        } catch (IllegalStateException e) {
+            return "redirect:/admin?error=draftNotStarted";
+        }
+        return "redirect:/admin?success=draftStarted";
+    }
+
+    /**
+     * Resumes the last live draft at the pick it stopped on, e.g. after a
+     * restart.
+     * 
+     * @return redirect to admin hub with success or error message
+     */
+    @GetMapping("/draft/resume")
+    public String resumeDraft() {
+        try {
+            draftRoomService.resume();
+        } catch (IllegalStateException e) {
+            return "redirect:/admin?error=draftNotResumed";
+        }
+        return "redirect:/admin?success=draftResumed";
+    }
+
+    /**
+     * Stops the live draft. Picks made so far stay on the rosters.
+     * 
+     * @return redirect to admin hub with success message
+     */
+    @GetMapping("/draft/stop")
+    public String stopDraft() {
+        draftRoomService.stop();
+        return "redirect:/admin?success=draftStopped";
+    }
+
     /**
      * Resets all statistics and reimports the entire season data.
      * WARNING: This deletes all existing stats and reimports from scratch.
@@ -122,6 +234,20 @@ public class AdminController {
         return "🚀 Season RESET and IMPORT started in background!";
     }
 
+    /**
+     * Recomputes fantasy points of all stored stats with the active scoring
+     * rules and rebuilds team totals. No data is downloaded.
+     * Runs in background.
+     * 
+     * @return success message
+     */
+    @GetMapping("/rescore")
+    @ResponseBody
+    public String rescore() {
+        new Thread(() -> rescoringService.rescoreAll()).start();
+        return "🔁 Rescoring of stored stats started in background!";
+    }
+
     /**
      * Triggers import of all NHL team rosters.
      * Runs in background. Check console for progress.
@@ -134,4 +260,18 @@ public class AdminController {
         new Thread(() -> nhlApiService.importAllTeams()).start();
         return "🚀 Season import started in background! Check console for progress.";
     }
-}
\ No newline at end of file
+
+    /**
+     * Writes recorded NHL/ESPN traffic to the archive without waiting for
+     * shutdown. Only has an effect when app.traffic.mode=record.
+     *
+     * @return status message
+     * @throws IOException if the archive cannot be written
+     */
+    @GetMapping("/traffic/flush")
+    @ResponseBody
+    public String flushTrafficArchive() throws IOException {
+        trafficArchive.flush();
+        return "🎞️ Traffic mode " + trafficArchive.getMode() + ", replay misses: " + trafficArchive.getMisses();
+    }
+}
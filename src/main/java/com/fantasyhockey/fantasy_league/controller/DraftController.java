@@ -0,0 +1,25 @@
+package com.fantasyhockey.fantasy_league.controller;
+
+import com.fantasyhockey.fantasy_league.repository.PlayerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+
+/**
+ * Page of the live draft room. The draft itself runs over the WebSocket
+ * endpoint handled by {@link DraftRoomSocketHandler}.
+ */
+@Controller
+@RequiredArgsConstructor
+public class DraftController {
+
+    private final PlayerRepository playerRepository;
+
+    @GetMapping("/draft")
+    public String showDraftRoom(Model model) {
+        model.addAttribute("players", playerRepository.findAll(Sort.by("lastName", "firstName")));
+        return "draft";
+    }
+}
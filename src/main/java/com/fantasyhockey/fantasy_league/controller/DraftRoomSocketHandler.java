@@ -0,0 +1,55 @@
+package com.fantasyhockey.fantasy_league.controller;
+
+import com.fantasyhockey.fantasy_league.service.DraftRoomService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * WebSocket endpoint of the live draft room (/draft/ws).
+ *
+ * Accepted client messages:
+ * - {"type":"pick","playerId":123}
+ * - {"type":"queue","playerIds":[123,456]}
+ */
+@Component
+@RequiredArgsConstructor
+public class DraftRoomSocketHandler extends TextWebSocketHandler {
+
+    private final DraftRoomService draftRoomService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        draftRoomService.join(session);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        JsonNode json = objectMapper.readTree(message.getPayload());
+        switch (json.path("type").asText()) {
+            case "pick" -> draftRoomService.pick(session, json.path("playerId").asLong());
+            case "queue" -> {
+                List<Long> playerIds = new ArrayList<>();
+                json.path("playerIds").forEach(id -> playerIds.add(id.asLong()));
+                draftRoomService.setQueue(session, playerIds);
+            }
+            default -> {
+                // Unknown message, ignore
+            }
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        draftRoomService.leave(session);
+    }
+}
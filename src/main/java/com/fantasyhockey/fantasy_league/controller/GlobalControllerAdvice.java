@@ -1,7 +1,11 @@
 package com.fantasyhockey.fantasy_league.controller;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ModelAttribute;
 
 @ControllerAdvice
@@ -32,4 +36,17 @@ public class GlobalControllerAdvice {
         }
         return authentication.getName();
     }
+
+    /**
+     * A concurrent edit won (optimistic version check or a busy row lock).
+     * Nothing was written, so the client can simply retry.
+     *
+     * @param e the conflict
+     * @return 409 Conflict with a message for the user
+     */
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<String> handleConflict(ConcurrencyFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body("Data mezitím změnil někdo jiný, načti stránku a zkus to znovu.");
+    }
 }
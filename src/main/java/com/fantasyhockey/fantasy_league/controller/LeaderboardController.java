@@ -14,9 +14,7 @@ public class LeaderboardController {
 
     @GetMapping("/leaderboard")
     public String showLeaderboard(Model model) {
-        // Aktualizujeme statistiky (výhry/prohry)
-        teamService.updateStandings();
-
+        // Tabulku udržuje StandingsService při dokončení týdne, tady jen čteme
         // Pošleme seznam seřazených týmů do HTML
         model.addAttribute("teams", teamService.getLeaderboard());
         return "leaderboard";
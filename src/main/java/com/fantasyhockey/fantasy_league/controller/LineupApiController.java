@@ -1,11 +1,16 @@
 package com.fantasyhockey.fantasy_league.controller;
 
+import com.fantasyhockey.fantasy_league.dto.LineupChange;
 import com.fantasyhockey.fantasy_league.service.FantasyTeamService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
 
 @RestController // Důležité: Vrací data, ne HTML
 @RequestMapping("/api/lineup")
@@ -20,6 +25,8 @@ public class LineupApiController {
         try {
             teamService.saveLineupSpot(principal.getName(), request.getPlayerId(), request.getSlotName());
             return ResponseEntity.ok("Uloženo");
+        } catch (ConcurrencyFailureException e) {
+            return conflict();
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
@@ -28,8 +35,12 @@ public class LineupApiController {
     // Endpoint pro smazání pozice (volá se při kliknutí na X)
     @PostMapping("/remove")
     public ResponseEntity<?> removeSpot(@RequestBody RemoveSpotRequest request, Principal principal) {
-        teamService.removePlayerFromSlot(principal.getName(), request.getSlotName());
-        return ResponseEntity.ok("Odstraněno");
+        try {
+            teamService.removePlayerFromSlot(principal.getName(), request.getSlotName());
+            return ResponseEntity.ok("Odstraněno");
+        } catch (ConcurrencyFailureException e) {
+            return conflict();
+        }
     }
 
     @PostMapping("/move")
@@ -37,11 +48,31 @@ public class LineupApiController {
         try {
             teamService.movePlayer(principal.getName(), request.getPlayerId(), request.getNewSlotName(), request.getOldSlotName());
             return ResponseEntity.ok("Přesunuto");
+        } catch (ConcurrencyFailureException e) {
+            return conflict();
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Hromadná změna sestavy: všechny přesuny jednoho tahu v jedné transakci
+    @PostMapping("/apply")
+    public ResponseEntity<?> applyChanges(@RequestBody ApplyLineupRequest request, Principal principal) {
+        try {
+            teamService.applyLineupChanges(principal.getName(), request.getChanges());
+            return ResponseEntity.ok("Uloženo");
+        } catch (ConcurrencyFailureException e) {
+            return conflict();
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
+    // Souběžná změna stejné sestavy: 409, klient může požadavek zopakovat
+    private ResponseEntity<?> conflict() {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body("Sestavu mezitím změnil jiný požadavek, zkus to znovu.");
+    }
+
     // DTO třídy pro příjem dat (Static inner classes)
     @lombok.Data
     static class SaveSpotRequest {
@@ -54,6 +85,11 @@ public class LineupApiController {
         private String slotName;
     }
 
+    @lombok.Data
+    static class ApplyLineupRequest {
+        private List<LineupChange> changes = new ArrayList<>();
+    }
+
     @lombok.Data
     static class MoveSpotRequest {
         private Long playerId;
@@ -4,13 +4,17 @@ import com.fantasyhockey.fantasy_league.model.GameWeek;
 import com.fantasyhockey.fantasy_league.model.LineupSpot;
 import com.fantasyhockey.fantasy_league.model.Matchup;
 import com.fantasyhockey.fantasy_league.service.FantasyTeamService;
+import com.fantasyhockey.fantasy_league.service.LiveScoreboardService;
 import com.fantasyhockey.fantasy_league.service.MatchupService;
 import com.fantasyhockey.fantasy_league.service.RosterLockingService;
 import com.fantasyhockey.fantasy_league.service.ScheduleService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -26,6 +30,7 @@ public class LiveController {
     private final ScheduleService scheduleService;
     private final FantasyTeamService fantasyTeamService;
     private final RosterLockingService rosterLockingService;
+    private final LiveScoreboardService liveScoreboardService;
 
     @GetMapping("/live")
     public String showLivePage(Model model) {
@@ -65,4 +70,16 @@ public class LiveController {
 
         return "live";
     }
+
+    /**
+     * Streams score and game state changes of the current week to the Live
+     * page, so it never has to reload.
+     *
+     * @return Server-Sent Events stream ("scores" and "statuses" events)
+     */
+    @GetMapping(path = "/live/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter streamLiveUpdates() {
+        return liveScoreboardService.subscribe();
+    }
 }
@@ -5,6 +5,7 @@ import com.fantasyhockey.fantasy_league.model.Player;
 import com.fantasyhockey.fantasy_league.repository.FantasyTeamRepository;
 import com.fantasyhockey.fantasy_league.repository.PlayerRepository;
 import com.fantasyhockey.fantasy_league.service.FantasyTeamService;
+import com.fantasyhockey.fantasy_league.service.PlayerSeasonTotalsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -26,6 +27,7 @@ public class PlayerController {
     private final PlayerRepository playerRepository;
     private final FantasyTeamRepository fantasyTeamRepository;
     private final FantasyTeamService fantasyTeamService;
+    private final PlayerSeasonTotalsService seasonTotalsService;
 
     private static final Map<String, String> TEAM_NAMES = new HashMap<>();
 
@@ -118,6 +120,7 @@ public class PlayerController {
         // 4. Pokud uživatel vybral tým, načteme hráče a rozdělíme je
         if (selectedTeam != null && !selectedTeam.isEmpty()) {
             List<Player> players = playerRepository.findByTeamNameOrderByLastNameAsc(selectedTeam);
+            seasonTotalsService.attachTotals(players);
 
             List<Player> forwards = new ArrayList<>();
             List<Player> defensemen = new ArrayList<>();
@@ -2,7 +2,9 @@ package com.fantasyhockey.fantasy_league.controller;
 
 import com.fantasyhockey.fantasy_league.model.FantasyTeam;
 import com.fantasyhockey.fantasy_league.model.LineupSpot;
+import com.fantasyhockey.fantasy_league.service.DraftRoomService;
 import com.fantasyhockey.fantasy_league.service.FantasyTeamService;
+import com.fantasyhockey.fantasy_league.service.PlayerSeasonTotalsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -30,6 +32,8 @@ public class TeamController {
 
         private final FantasyTeamService teamService;
         private final com.fantasyhockey.fantasy_league.service.RosterLockingService rosterLockingService;
+        private final DraftRoomService draftRoomService;
+        private final PlayerSeasonTotalsService seasonTotalsService;
 
         @GetMapping("/my-team")
         public String showMyTeam(Model model, Principal principal) {
@@ -83,6 +87,7 @@ public class TeamController {
                         model.addAttribute("goaliesCount", goaliesCount);
 
                         // --- TŘÍDĚNÍ HRÁČŮ PODLE PRŮMĚRNÝCH BODŮ ---
+                        seasonTotalsService.attachTotals(team.getPlayers());
                         List<com.fantasyhockey.fantasy_league.model.Player> sortedForwards = team.getPlayers().stream()
                                         .filter(p -> List.of("LW", "C", "RW").contains(p.getPosition()))
                                         .sorted(Comparator
@@ -139,6 +144,10 @@ public class TeamController {
                         @org.springframework.web.bind.annotation.RequestHeader(value = "X-Requested-With", required = false) String requestedWith,
                         Principal principal) {
                 try {
+                        // Během živého draftu se hráči vybírají jen v draftové místnosti
+                        if (draftRoomService.isRunning()) {
+                                throw new RuntimeException("Probíhá živý draft, vybírej v draftové místnosti.");
+                        }
                         teamService.addPlayerToTeam(playerId, principal.getName());
 
                         if ("XMLHttpRequest".equals(requestedWith)) {
@@ -0,0 +1,59 @@
+package com.fantasyhockey.fantasy_league.dto;
+
+import java.util.List;
+
+/**
+ * Compact view of an NHL boxscore holding only the data needed for fantasy
+ * scoring. Produced by the streaming boxscore parser.
+ *
+ * @param gameId    NHL game ID
+ * @param gameState game state ("FUT", "LIVE", "CRIT", "OFF", "FINAL")
+ * @param awayScore goals scored by the away team
+ * @param homeScore goals scored by the home team
+ * @param skaters   stat lines of all forwards and defensemen
+ * @param goalies   stat lines of all goalies
+ */
+public record GameBoxscore(long gameId, String gameState, int awayScore, int homeScore,
+        List<SkaterLine> skaters, List<GoalieLine> goalies) {
+
+    /**
+     * Whether the game is official (OFF). Boxscores of LIVE, CRIT and FINAL
+     * games are provisional and may still change.
+     *
+     * @return true if the stat lines are final
+     */
+    public boolean isOfficial() {
+        return "OFF".equals(gameState);
+    }
+
+    /**
+     * Whether the team on the given side won the game.
+     *
+     * @param home true for the home team, false for the away team
+     * @return true if that team scored more goals
+     */
+    public boolean isWinner(boolean home) {
+        return home ? homeScore > awayScore : awayScore > homeScore;
+    }
+
+    /**
+     * Single-game stat line of a skater (forward or defenseman).
+     */
+    public record SkaterLine(long playerId, boolean home, int goals, int assists, int plusMinus, int shots,
+            int blockedShots, int hits, int pim) {
+
+        /**
+         * @return true if the skater recorded any scoring-relevant statistic
+         */
+        public boolean hasStats() {
+            return goals > 0 || assists > 0 || shots > 0 || blockedShots > 0 || hits > 0 || pim > 0
+                    || plusMinus != 0;
+        }
+    }
+
+    /**
+     * Single-game stat line of a goalie.
+     */
+    public record GoalieLine(long playerId, boolean home, int saves, int shotsAgainst) {
+    }
+}
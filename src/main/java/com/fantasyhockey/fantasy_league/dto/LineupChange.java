@@ -0,0 +1,10 @@
+package com.fantasyhockey.fantasy_league.dto;
+
+/**
+ * Requested new occupant of one lineup slot.
+ *
+ * @param slotName the slot, e.g. "L1_LW" or "GK"
+ * @param playerId the player to put in the slot, or null to empty it
+ */
+public record LineupChange(String slotName, Long playerId) {
+}
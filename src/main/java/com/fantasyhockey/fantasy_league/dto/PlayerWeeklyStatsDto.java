@@ -15,5 +15,5 @@ public class PlayerWeeklyStatsDto {
     private int blockedShots;
     private int hits;
     private int pim;
-    private double fantasyPoints;
+    private long fantasyPoints;
 }
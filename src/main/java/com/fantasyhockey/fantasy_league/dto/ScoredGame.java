@@ -0,0 +1,29 @@
+package com.fantasyhockey.fantasy_league.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Boxscore stat lines of one game with their fantasy points already
+ * calculated, ready to be persisted.
+ *
+ * @param gameId  NHL game ID
+ * @param date    date the game was played
+ * @param skaters scored skater lines (only skaters with any statistic)
+ * @param goalies scored goalie lines
+ */
+public record ScoredGame(long gameId, LocalDate date, List<ScoredSkater> skaters, List<ScoredGoalie> goalies) {
+
+    /**
+     * Skater stat line with its fantasy points in hundredths.
+     */
+    public record ScoredSkater(GameBoxscore.SkaterLine line, long fantasyPoints) {
+    }
+
+    /**
+     * Goalie stat line with the game result and its fantasy points in
+     * hundredths.
+     */
+    public record ScoredGoalie(GameBoxscore.GoalieLine line, boolean win, long fantasyPoints) {
+    }
+}
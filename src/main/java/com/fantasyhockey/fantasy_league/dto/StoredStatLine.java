@@ -0,0 +1,14 @@
+package com.fantasyhockey.fantasy_league.dto;
+
+/**
+ * Raw statistics of one stored PlayerStats row, read without loading the
+ * entity so stored games can be rescored in bulk.
+ *
+ * @param id            PlayerStats ID
+ * @param goalie        whether the player is a goalie
+ * @param fantasyPoints currently stored fantasy points in hundredths
+ */
+public record StoredStatLine(long id, boolean goalie, int goals, int assists, int plusMinus, int shots,
+        int blockedShots, int hits, int pim, int saves, int shotsAgainst, int goalsAgainst, boolean win,
+        long fantasyPoints) {
+}
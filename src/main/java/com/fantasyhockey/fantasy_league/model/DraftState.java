@@ -0,0 +1,31 @@
+package com.fantasyhockey.fantasy_league.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of a league's live draft. Written after every pick, so a draft
+ * interrupted by a restart can be resumed where it stopped.
+ */
+@Entity
+@Table(name = "draft_state")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DraftState {
+
+    /**
+     * League the draft belongs to.
+     */
+    @Id
+    @Column(name = "league_key")
+    private String leagueKey;
+
+    /**
+     * Zero-based number of the next pick in snake order.
+     */
+    @Column(nullable = false)
+    private int pickNumber;
+}
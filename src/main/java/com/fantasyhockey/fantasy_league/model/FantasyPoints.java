@@ -0,0 +1,39 @@
+package com.fantasyhockey.fantasy_league.model;
+
+/**
+ * Fixed-point representation of fantasy points.
+ * Points are stored and summed as longs in hundredths of a point, so
+ * fractional scoring (0.5 per shot, -0.1 per PIM, ...) is kept exactly and
+ * totals are plain integer additions. Conversion to a decimal only happens
+ * for display.
+ */
+public final class FantasyPoints {
+
+    /**
+     * Number of stored units per fantasy point.
+     */
+    public static final long SCALE = 100;
+
+    private FantasyPoints() {
+    }
+
+    /**
+     * Converts points to stored hundredths, rounding to the nearest unit.
+     *
+     * @param points fantasy points
+     * @return points in hundredths
+     */
+    public static long fromPoints(double points) {
+        return Math.round(points * SCALE);
+    }
+
+    /**
+     * Converts stored hundredths to points for display.
+     *
+     * @param hundredths points in hundredths
+     * @return fantasy points
+     */
+    public static double toPoints(long hundredths) {
+        return (double) hundredths / SCALE;
+    }
+}
@@ -25,6 +25,12 @@ public class FantasyTeam {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /**
+     * Optimistic lock version; a save of a stale team fails.
+     */
+    @Version
+    private Long version;
+
     // ==================== Team Identity ====================
 
     /**
@@ -40,10 +46,17 @@ public class FantasyTeam {
     // ==================== Season Statistics ====================
 
     /**
-     * Total fantasy points accumulated by all players on the team.
+     * Total fantasy points accumulated by the players in the team's daily
+     * lineup (or roster) snapshots.
      * Updated whenever player stats are processed.
+     * Stored in hundredths (see {@link FantasyPoints}).
+     *
+     * Only ever changed by atomic in-database updates
+     * ({@code FantasyTeamRepository.addFantasyPoints}), never by saving the
+     * entity, so a stale team can not overwrite it.
      */
-    private int totalFantasyPoints = 0;
+    @Column(updatable = false)
+    private long totalFantasyPoints = 0;
 
     /**
      * Number of matchup wins in regulation time.
@@ -88,12 +101,14 @@ public class FantasyTeam {
 
     /**
      * The roster of NHL players on this fantasy team.
-     * Many-to-many relationship: players can be on multiple teams,
-     * and teams have multiple players.
-     * Uses a join table "team_players" to manage the relationship.
+     * Mapped as many-to-many through the join table "team_players", but a
+     * player belongs to at most one team (unique player_id); roster changes
+     * go through {@code FantasyTeamRepository.claimPlayer} and
+     * {@code releasePlayer}, never through saving this collection.
      */
     @ManyToMany
-    @JoinTable(name = "team_players", joinColumns = @JoinColumn(name = "team_id"), inverseJoinColumns = @JoinColumn(name = "player_id"))
+    @JoinTable(name = "team_players", joinColumns = @JoinColumn(name = "team_id"), inverseJoinColumns = @JoinColumn(name = "player_id"),
+            uniqueConstraints = @UniqueConstraint(name = "uk_team_players_player", columnNames = "player_id"))
     private List<Player> players = new ArrayList<>();
 
     // ==================== Helper Methods ====================
@@ -26,6 +26,12 @@ public class LineupSpot {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /**
+     * Optimistic lock version; a save of a stale spot fails.
+     */
+    @Version
+    private Long version;
+
     /**
      * The fantasy team that owns this lineup spot.
      */
@@ -21,6 +21,13 @@ public class Matchup {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /**
+     * Optimistic lock version; a save of a stale matchup fails. Set-based
+     * score updates bump it as well.
+     */
+    @Version
+    private Long version;
+
     /**
      * The game week when this matchup takes place.
      */
@@ -43,14 +50,16 @@ public class Matchup {
     private FantasyTeam awayTeam;
 
     /**
-     * Total fantasy points scored by the home team during this week.
+     * Total fantasy points scored by the home team during this week, in
+     * hundredths (see {@link FantasyPoints}).
      */
-    private double homeScore;
+    private long homeScore;
 
     /**
-     * Total fantasy points scored by the away team during this week.
+     * Total fantasy points scored by the away team during this week, in
+     * hundredths (see {@link FantasyPoints}).
      */
-    private double awayScore;
+    private long awayScore;
 
     /**
      * The winning team of this matchup.
@@ -59,4 +68,12 @@ public class Matchup {
     @ManyToOne
     @JoinColumn(name = "winner_id")
     private FantasyTeam winner;
+
+    /**
+     * Whether this matchup's result has been added to the teams' standings.
+     * Set once when the game week completes, so a result is never counted
+     * twice.
+     */
+    @Column(nullable = false, columnDefinition = "boolean default false")
+    private boolean resultApplied;
 }
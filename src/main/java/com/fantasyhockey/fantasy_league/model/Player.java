@@ -3,14 +3,16 @@ package com.fantasyhockey.fantasy_league.model;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.util.List;
 
 /**
  * Represents an NHL player in the fantasy league system.
- * Stores basic player information and provides calculated season statistics
- * based on game-by-game performance data.
+ * Stores basic player information and provides season statistics read from
+ * the pre-aggregated {@link PlayerSeasonTotals}.
  */
 @Entity
 @Table(name = "players")
@@ -63,53 +65,58 @@ public class Player {
     @OneToMany(mappedBy = "player", fetch = FetchType.LAZY)
     private List<PlayerStats> matchHistory;
 
+    /**
+     * Season sums of this player's statistics.
+     * Not mapped, so loading a player never queries the totals; attached by
+     * {@code PlayerSeasonTotalsService.attachTotals} for players about to be
+     * displayed. Null reads as zero.
+     */
+    @Transient
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private PlayerSeasonTotals seasonTotals;
+
     // ==================== Season Statistics (Skaters) ====================
 
     /**
-     * Calculates total goals scored this season.
+     * Returns total goals scored this season.
      * 
-     * @return sum of all goals from match history
+     * @return season goals
      */
     @Transient
     public int getSeasonGoals() {
-        if (matchHistory == null)
-            return 0;
-        return matchHistory.stream().mapToInt(PlayerStats::getGoals).sum();
+        return seasonTotals == null ? 0 : seasonTotals.getGoals();
     }
 
     /**
-     * Calculates total assists this season.
+     * Returns total assists this season.
      * 
-     * @return sum of all assists from match history
+     * @return season assists
      */
     @Transient
     public int getSeasonAssists() {
-        if (matchHistory == null)
-            return 0;
-        return matchHistory.stream().mapToInt(PlayerStats::getAssists).sum();
+        return seasonTotals == null ? 0 : seasonTotals.getAssists();
     }
 
     /**
      * Calculates total NHL points (goals + assists) this season.
      * Note: This returns fantasy points, not NHL points.
      * 
-     * @return total fantasy points earned
+     * @return total fantasy points earned, in hundredths
      */
     @Transient
-    public int getSeasonPoints() {
+    public long getSeasonPoints() {
         return getSeasonFantasyPoints();
     }
 
     /**
-     * Calculates total fantasy points earned this season.
+     * Returns total fantasy points earned this season.
      * 
-     * @return sum of all fantasy points from match history
+     * @return season fantasy points in hundredths (see {@link FantasyPoints})
      */
     @Transient
-    public int getSeasonFantasyPoints() {
-        if (matchHistory == null)
-            return 0;
-        return matchHistory.stream().mapToInt(PlayerStats::getFantasyPoints).sum();
+    public long getSeasonFantasyPoints() {
+        return seasonTotals == null ? 0 : seasonTotals.getFantasyPoints();
     }
 
     /**
@@ -119,70 +126,60 @@ public class Player {
      */
     @Transient
     public double getAverageFantasyPoints() {
-        if (matchHistory == null || matchHistory.isEmpty()) {
+        if (seasonTotals == null || seasonTotals.getGamesPlayed() == 0) {
             return 0.0;
         }
-        return (double) getSeasonFantasyPoints() / matchHistory.size();
+        return FantasyPoints.toPoints(seasonTotals.getFantasyPoints()) / seasonTotals.getGamesPlayed();
     }
 
     /**
-     * Calculates total plus/minus rating this season.
+     * Returns total plus/minus rating this season.
      * 
-     * @return sum of all plus/minus values from match history
+     * @return season plus/minus
      */
     @Transient
     public int getSeasonPlusMinus() {
-        if (matchHistory == null)
-            return 0;
-        return matchHistory.stream().mapToInt(PlayerStats::getPlusMinus).sum();
+        return seasonTotals == null ? 0 : seasonTotals.getPlusMinus();
     }
 
     /**
-     * Calculates total shots on goal this season.
+     * Returns total shots on goal this season.
      * 
-     * @return sum of all shots from match history
+     * @return season shots
      */
     @Transient
     public int getSeasonShots() {
-        if (matchHistory == null)
-            return 0;
-        return matchHistory.stream().mapToInt(PlayerStats::getShots).sum();
+        return seasonTotals == null ? 0 : seasonTotals.getShots();
     }
 
     /**
-     * Calculates total blocked shots this season.
+     * Returns total blocked shots this season.
      * 
-     * @return sum of all blocked shots from match history
+     * @return season blocked shots
      */
     @Transient
     public int getSeasonBlockedShots() {
-        if (matchHistory == null)
-            return 0;
-        return matchHistory.stream().mapToInt(PlayerStats::getBlockedShots).sum();
+        return seasonTotals == null ? 0 : seasonTotals.getBlockedShots();
     }
 
     /**
-     * Calculates total hits this season.
+     * Returns total hits this season.
      * 
-     * @return sum of all hits from match history
+     * @return season hits
      */
     @Transient
     public int getSeasonHits() {
-        if (matchHistory == null)
-            return 0;
-        return matchHistory.stream().mapToInt(PlayerStats::getHits).sum();
+        return seasonTotals == null ? 0 : seasonTotals.getHits();
     }
 
     /**
-     * Calculates total penalty minutes this season.
+     * Returns total penalty minutes this season.
      * 
-     * @return sum of all penalty minutes from match history
+     * @return season penalty minutes
      */
     @Transient
     public int getSeasonPim() {
-        if (matchHistory == null)
-            return 0;
-        return matchHistory.stream().mapToInt(PlayerStats::getPim).sum();
+        return seasonTotals == null ? 0 : seasonTotals.getPim();
     }
 
     // ==================== Season Statistics (Goalies) ====================
@@ -196,13 +193,10 @@ public class Player {
      */
     @Transient
     public double getSeasonGaa() {
-        if (matchHistory == null || matchHistory.isEmpty())
-            return 0.0;
-        int totalGoalsAgainst = matchHistory.stream().mapToInt(PlayerStats::getGoalsAgainst).sum();
-        long totalMinutes = matchHistory.size() * 60;
-        if (totalMinutes == 0)
+        if (seasonTotals == null || seasonTotals.getGamesPlayed() == 0)
             return 0.0;
-        return (double) totalGoalsAgainst * 60 / totalMinutes;
+        long totalMinutes = seasonTotals.getGamesPlayed() * 60L;
+        return (double) seasonTotals.getGoalsAgainst() * 60 / totalMinutes;
     }
 
     /**
@@ -213,12 +207,8 @@ public class Player {
      */
     @Transient
     public double getSeasonSavePctg() {
-        if (matchHistory == null || matchHistory.isEmpty())
-            return 0.0;
-        int totalSaves = matchHistory.stream().mapToInt(PlayerStats::getSaves).sum();
-        int totalShotsAgainst = matchHistory.stream().mapToInt(PlayerStats::getShotsAgainst).sum();
-        if (totalShotsAgainst == 0)
+        if (seasonTotals == null || seasonTotals.getShotsAgainst() == 0)
             return 0.0;
-        return (double) totalSaves / totalShotsAgainst;
+        return (double) seasonTotals.getSaves() / seasonTotals.getShotsAgainst();
     }
-}
\ No newline at end of file
+}
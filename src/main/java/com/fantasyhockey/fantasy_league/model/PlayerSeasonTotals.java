@@ -0,0 +1,69 @@
+package com.fantasyhockey.fantasy_league.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Season sums of a player's statistics, maintained as stats are recorded.
+ * Shares its primary key with {@link Player}, so season getters never have
+ * to walk the player's match history.
+ *
+ * The mapping is unidirectional: loading players never touches this table.
+ * Totals are attached to the players about to be displayed with one query
+ * per list (see {@code PlayerSeasonTotalsService.attachTotals}).
+ */
+@Entity
+@Table(name = "player_season_totals")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerSeasonTotals {
+
+    /**
+     * ID of the player these totals belong to.
+     */
+    @Id
+    private Long playerId;
+
+    /**
+     * The player these totals belong to. Supplies the shared primary key.
+     */
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "player_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Player player;
+
+    /**
+     * Number of games with recorded stats.
+     */
+    private int gamesPlayed;
+
+    // ==================== Skater Totals ====================
+
+    private int goals;
+    private int assists;
+    private int plusMinus;
+    private int shots;
+    private int blockedShots;
+    private int hits;
+    private int pim;
+
+    // ==================== Goalie Totals ====================
+
+    private int saves;
+    private int shotsAgainst;
+    private int goalsAgainst;
+
+    // ==================== Fantasy ====================
+
+    /**
+     * Season fantasy points in hundredths (see {@link FantasyPoints}).
+     */
+    private long fantasyPoints;
+}
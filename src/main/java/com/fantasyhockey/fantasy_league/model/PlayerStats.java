@@ -11,8 +11,16 @@ import java.time.LocalDate;
  * Represents game-by-game statistics for a player.
  * Each record captures a player's performance in a single NHL game,
  * including both traditional stats and calculated fantasy points.
+ *
+ * A player has at most one row per game (enforced by the database), and
+ * lookups by player and date range are served from a (player_id, date)
+ * index that includes fantasy_points, without touching the table (see the
+ * schema migrations in db/migration).
  */
 @Entity
+@Table(name = "player_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_player_stats_player_game",
+                columnNames = { "player_id", "game_id" }))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -96,6 +104,8 @@ public class PlayerStats {
      * Calculated based on the scoring system:
      * - Goals, assists, shots, hits, blocks, etc. for skaters
      * - Saves, goals against, shutouts, etc. for goalies
+     * Stored in hundredths (see {@link FantasyPoints}) so fractional points
+     * are never rounded away.
      */
-    private int fantasyPoints;
+    private long fantasyPoints;
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.fantasyhockey.fantasy_league.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One scoring rule of a {@link ScoringRuleSet}.
+ * A statistic earns {@code weight} points per unit, plus a one-time
+ * {@code bonus} once it reaches {@code threshold} in a single game
+ * (e.g. a hat trick bonus for 3 goals).
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoringRule {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ScoringStat stat;
+
+    /**
+     * Points per unit of the statistic (may be negative or fractional).
+     */
+    private double weight;
+
+    /**
+     * Per-game value that triggers the bonus; 0 means no bonus.
+     */
+    private int threshold;
+
+    /**
+     * Points added once when the threshold is reached.
+     */
+    private double bonus;
+}
@@ -0,0 +1,50 @@
+package com.fantasyhockey.fantasy_league.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A versioned set of fantasy scoring rules for one league.
+ * Changing the scoring publishes a new version; exactly one version per
+ * league is active at a time.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = { "league_key", "version" }))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoringRuleSet {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * League the rules belong to.
+     */
+    @Column(name = "league_key", nullable = false)
+    private String leagueKey;
+
+    /**
+     * Version number, increasing per league.
+     */
+    @Column(nullable = false)
+    private int version;
+
+    /**
+     * Whether this version is the one used for scoring.
+     */
+    private boolean active;
+
+    private LocalDateTime createdAt;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "scoring_rule", joinColumns = @JoinColumn(name = "rule_set_id"))
+    private List<ScoringRule> rules = new ArrayList<>();
+}
@@ -0,0 +1,29 @@
+package com.fantasyhockey.fantasy_league.model;
+
+/**
+ * Statistics that fantasy scoring rules can be attached to.
+ * The order defines the slot of each statistic in a compiled coefficient
+ * array, so new values must only be appended.
+ */
+public enum ScoringStat {
+    // Skaters
+    GOALS,
+    ASSISTS,
+    PLUS_MINUS,
+    SHOTS,
+    BLOCKED_SHOTS,
+    HITS,
+    PIM,
+
+    // Goalies
+    SAVES,
+    GOALS_AGAINST,
+    /**
+     * 1 for a game without a goal against (and at least one shot), else 0.
+     */
+    SHUTOUTS,
+    /**
+     * 1 for a goalie whose team won the game, else 0.
+     */
+    WINS
+}
@@ -0,0 +1,43 @@
+package com.fantasyhockey.fantasy_league.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pre-aggregated fantasy points of one team in one game week.
+ * Incremented whenever stats of the team's rostered players are recorded,
+ * so matchup scores can be read without summing individual stat rows.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = { "team_id", "game_week_id" }))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamWeekScore {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * The fantasy team the points belong to.
+     */
+    @ManyToOne
+    @JoinColumn(name = "team_id", nullable = false)
+    private FantasyTeam team;
+
+    /**
+     * The game week the points were scored in.
+     */
+    @ManyToOne
+    @JoinColumn(name = "game_week_id", nullable = false)
+    private GameWeek gameWeek;
+
+    /**
+     * Sum of fantasy points of the team's players during the week, in
+     * hundredths (see {@link FantasyPoints}).
+     */
+    private long points;
+}
@@ -0,0 +1,9 @@
+package com.fantasyhockey.fantasy_league.repository;
+
+import com.fantasyhockey.fantasy_league.model.DraftState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DraftStateRepository extends JpaRepository<DraftState, String> {
+}
@@ -0,0 +1,66 @@
+package com.fantasyhockey.fantasy_league.repository;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Set-based write operations for FantasyTeam.
+ */
+public interface FantasyTeamBatchRepository {
+
+    /**
+     * Credits points scored by players on a day to the totals of the teams
+     * that had them in that day's snapshot, with a single UPDATE statement.
+     * Teams without a snapshot of the day score nothing, so missing roster
+     * snapshots must be stored first.
+     *
+     * @param date           day the points were scored
+     * @param pointsByPlayer points to add in hundredths, keyed by player ID
+     */
+    void addFantasyPoints(LocalDate date, Map<Long, Long> pointsByPlayer);
+
+    /**
+     * Recomputes every team's total with a single UPDATE statement from the
+     * recorded stats of players in the team's snapshot of each stat line's
+     * day.
+     */
+    void rebuildFantasyPoints();
+
+    /**
+     * Sets every team's total to zero with a single UPDATE.
+     */
+    void resetFantasyPoints();
+
+    /**
+     * Locks the team's row for the rest of the transaction without waiting.
+     * Serializes draft claims of one team (roster limits) while claims of
+     * other teams proceed in parallel.
+     *
+     * @param teamId the team to lock
+     * @throws org.springframework.dao.PessimisticLockingFailureException if
+     *         another transaction holds the lock
+     */
+    void lockTeamNoWait(long teamId);
+
+    /**
+     * Atomically assigns a player to a team. The unique player_id constraint
+     * on team_players decides between concurrent claims of the same player.
+     *
+     * @param teamId   the claiming team
+     * @param playerId the player to claim
+     * @return true if the claim succeeded, false if the player already
+     *         belongs to a team
+     */
+    boolean claimPlayer(long teamId, long playerId);
+
+    /**
+     * Removes a player from a team's roster. Only the one join row is
+     * deleted, so roster changes made concurrently by other requests are
+     * never rewritten from a stale entity.
+     *
+     * @param teamId   the team
+     * @param playerId the player to release
+     * @return true if the player was on the team
+     */
+    boolean releasePlayer(long teamId, long playerId);
+}
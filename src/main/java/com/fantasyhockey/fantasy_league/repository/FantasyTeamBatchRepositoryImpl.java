@@ -0,0 +1,92 @@
+package com.fantasyhockey.fantasy_league.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * JDBC implementation of {@link FantasyTeamBatchRepository}.
+ * The player IDs and points are passed as two PostgreSQL arrays and joined
+ * with unnest to the day's snapshots, so any number of teams is updated in
+ * one statement. Totals count the same stat lines as the weekly scores (see
+ * {@link TeamWeekScoreBatchRepositoryImpl}).
+ */
+@RequiredArgsConstructor
+public class FantasyTeamBatchRepositoryImpl implements FantasyTeamBatchRepository {
+
+    private static final String IN_SNAPSHOT = LineupSpotBatchRepositoryImpl.IN_SNAPSHOT;
+
+    private static final String ADD_POINTS_SQL = "UPDATE fantasy_team t "
+            + "SET total_fantasy_points = t.total_fantasy_points + c.points FROM ("
+            + "SELECT ls.team_id, SUM(d.points) AS points FROM unnest(?, ?) AS d(player_id, points) "
+            + "JOIN lineup_snapshot ls ON ls.date = ? AND " + IN_SNAPSHOT.formatted("d.player_id") + " "
+            + "GROUP BY ls.team_id) c WHERE t.id = c.team_id AND c.points <> 0";
+
+    private static final String REBUILD_POINTS_SQL = "UPDATE fantasy_team t "
+            + "SET total_fantasy_points = COALESCE((SELECT SUM(ps.fantasy_points) FROM player_stats ps "
+            + "JOIN lineup_snapshot ls ON ls.team_id = t.id AND ls.date = ps.date AND "
+            + IN_SNAPSHOT.formatted("ps.player_id") + "), 0)";
+
+    private static final String RESET_POINTS_SQL = "UPDATE fantasy_team SET total_fantasy_points = 0";
+
+    private static final String LOCK_TEAM_SQL = "SELECT id FROM fantasy_team WHERE id = ? FOR UPDATE NOWAIT";
+
+    private static final String CLAIM_PLAYER_SQL = "INSERT INTO team_players (team_id, player_id) VALUES (?, ?) "
+            + "ON CONFLICT (player_id) DO NOTHING";
+
+    private static final String RELEASE_PLAYER_SQL = "DELETE FROM team_players WHERE team_id = ? AND player_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addFantasyPoints(LocalDate date, Map<Long, Long> pointsByPlayer) {
+        if (pointsByPlayer.isEmpty()) {
+            return;
+        }
+        Long[] playerIds = new Long[pointsByPlayer.size()];
+        Long[] points = new Long[pointsByPlayer.size()];
+        int i = 0;
+        for (Map.Entry<Long, Long> entry : pointsByPlayer.entrySet()) {
+            playerIds[i] = entry.getKey();
+            points[i] = entry.getValue();
+            i++;
+        }
+
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(ADD_POINTS_SQL);
+            ps.setArray(1, con.createArrayOf("bigint", playerIds));
+            ps.setArray(2, con.createArrayOf("bigint", points));
+            ps.setDate(3, Date.valueOf(date));
+            return ps;
+        });
+    }
+
+    @Override
+    public void rebuildFantasyPoints() {
+        jdbcTemplate.update(REBUILD_POINTS_SQL);
+    }
+
+    @Override
+    public void resetFantasyPoints() {
+        jdbcTemplate.update(RESET_POINTS_SQL);
+    }
+
+    @Override
+    public void lockTeamNoWait(long teamId) {
+        jdbcTemplate.queryForList(LOCK_TEAM_SQL, Long.class, teamId);
+    }
+
+    @Override
+    public boolean claimPlayer(long teamId, long playerId) {
+        return jdbcTemplate.update(CLAIM_PLAYER_SQL, teamId, playerId) > 0;
+    }
+
+    @Override
+    public boolean releasePlayer(long teamId, long playerId) {
+        return jdbcTemplate.update(RELEASE_PLAYER_SQL, teamId, playerId) > 0;
+    }
+}
@@ -3,13 +3,15 @@ package com.fantasyhockey.fantasy_league.repository;
 import com.fantasyhockey.fantasy_league.model.FantasyTeam;
 import com.fantasyhockey.fantasy_league.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface FantasyTeamRepository extends JpaRepository<FantasyTeam, Long> {
+public interface FantasyTeamRepository extends JpaRepository<FantasyTeam, Long>, FantasyTeamBatchRepository {
     // Najdi tým podle uživatele (abychom věděli, jestli už nějaký má)
     Optional<FantasyTeam> findByUser(User user);
 
@@ -21,4 +23,20 @@ public interface FantasyTeamRepository extends JpaRepository<FantasyTeam, Long>
     List<FantasyTeam> findAllByOrderByTotalFantasyPointsDesc();
 
     List<FantasyTeam> findAllByOrderByLeaguePointsDesc();
+
+    // Všechny dvojice [0] teamId, [1] playerId ze soupisek (pro RosterIndex)
+    @Query("SELECT t.id, p.id FROM FantasyTeam t JOIN t.players p")
+    List<Object[]> findAllRosterPairs();
+
+    // Pozice hráčů na soupisce týmu (kontrola limitů při draftu bez načítání celé kolekce)
+    @Query("SELECT p.position FROM FantasyTeam t JOIN t.players p WHERE t.id = :teamId")
+    List<String> findRosterPositions(@Param("teamId") Long teamId);
+
+    // Tým, který hráče vlastní (hráč může patřit nejvýše jednomu týmu)
+    @Query("SELECT t.id FROM FantasyTeam t JOIN t.players p WHERE p.id = :playerId")
+    Optional<Long> findOwnerTeamId(@Param("playerId") Long playerId);
+
+    // ID všech týmů (snímky sestav dostane i tým s prázdnou sestavou)
+    @Query("SELECT t.id FROM FantasyTeam t")
+    List<Long> findAllIds();
 }
\ No newline at end of file
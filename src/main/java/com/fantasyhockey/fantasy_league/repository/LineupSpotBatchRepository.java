@@ -0,0 +1,60 @@
+package com.fantasyhockey.fantasy_league.repository;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Set-based write operations for LineupSpot.
+ */
+public interface LineupSpotBatchRepository {
+
+    /**
+     * Replaces the occupants of several lineup slots of one team: the slots
+     * are emptied with one DELETE and refilled with one INSERT.
+     *
+     * @param teamId    the team whose lineup changes
+     * @param slotNames slots to replace
+     * @param playerIds new occupant of each slot (parallel to
+     *                  {@code slotNames}), null leaves the slot empty
+     */
+    void replaceSlots(long teamId, String[] slotNames, Long[] playerIds);
+
+    /**
+     * Stores the lineup snapshots of one day, replacing earlier snapshots of
+     * the same teams and day.
+     *
+     * @param date                the day the lineups apply to
+     * @param activePlayersByTeam bitset of active player IDs per team ID, as
+     *                            produced by {@link java.util.BitSet#toByteArray()}
+     */
+    void saveSnapshots(LocalDate date, Map<Long, byte[]> activePlayersByTeam);
+
+    /**
+     * Stores each team's current roster as its snapshot of a day, for teams
+     * that have no snapshot of that day yet. Called before points of the day
+     * are credited, so every path that counts stat lines finds a snapshot
+     * and a later rebuild counts the same players.
+     *
+     * @param date the day
+     * @return number of snapshots stored
+     */
+    int saveMissingRosterSnapshots(LocalDate date);
+
+    /**
+     * Stores each team's current roster as its snapshot of every day with
+     * recorded stats that has no snapshot of that team yet (stats recorded
+     * before snapshots existed).
+     *
+     * @return number of snapshots stored
+     */
+    int saveMissingRosterSnapshots();
+
+    /**
+     * Loads the lineup snapshots of one day.
+     *
+     * @param date the day
+     * @return bitset of active player IDs per team ID; teams without a
+     *         snapshot are absent
+     */
+    Map<Long, byte[]> findSnapshots(LocalDate date);
+}
@@ -0,0 +1,143 @@
+package com.fantasyhockey.fantasy_league.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC implementation of {@link LineupSpotBatchRepository}.
+ * Slot names and player IDs are passed as PostgreSQL arrays, so any number
+ * of slots is rewritten with two statements. Snapshots are upserted on the
+ * (date, team_id) primary key.
+ *
+ * Roster snapshots are built from team_players in Java, with the same
+ * {@link BitSet} layout as lineup snapshots, and only fill team-days that
+ * have no snapshot yet.
+ */
+@RequiredArgsConstructor
+public class LineupSpotBatchRepositoryImpl implements LineupSpotBatchRepository {
+
+    private static final String CLEAR_SLOTS_SQL = "DELETE FROM lineup_spot WHERE team_id = ? AND slot_name = ANY(?)";
+
+    private static final String FILL_SLOTS_SQL = "INSERT INTO lineup_spot (team_id, slot_name, player_id) "
+            + "SELECT ?, d.slot_name, d.player_id FROM unnest(?, ?) AS d(slot_name, player_id) "
+            + "WHERE d.player_id IS NOT NULL";
+
+    private static final String SAVE_SNAPSHOT_SQL = "INSERT INTO lineup_snapshot (date, team_id, active_players) "
+            + "VALUES (?, ?, ?) ON CONFLICT (date, team_id) DO UPDATE SET active_players = EXCLUDED.active_players";
+
+    /**
+     * Whether the player ID given as the format argument has its bit set in
+     * {@code ls.active_players}. get_bit fails past the end of the bitset, so
+     * the length is checked first. Shared by every query that counts stat
+     * lines through the snapshots.
+     */
+    static final String IN_SNAPSHOT = "CASE WHEN %1$s < octet_length(ls.active_players) * 8 "
+            + "THEN get_bit(ls.active_players, %1$s::int) ELSE 0 END = 1";
+
+    private static final String MISSING_SNAPSHOTS_SQL = "SELECT t.id FROM fantasy_team t WHERE NOT EXISTS "
+            + "(SELECT 1 FROM lineup_snapshot ls WHERE ls.team_id = t.id AND ls.date = ?)";
+
+    private static final String MISSING_STAT_DAY_SNAPSHOTS_SQL = "SELECT d.date, t.id "
+            + "FROM (SELECT DISTINCT date FROM player_stats) d CROSS JOIN fantasy_team t WHERE NOT EXISTS "
+            + "(SELECT 1 FROM lineup_snapshot ls WHERE ls.team_id = t.id AND ls.date = d.date)";
+
+    private static final String ROSTERS_SQL = "SELECT team_id, player_id FROM team_players";
+
+    private static final String SAVE_MISSING_SNAPSHOT_SQL = "INSERT INTO lineup_snapshot (date, team_id, active_players) "
+            + "VALUES (?, ?, ?) ON CONFLICT (date, team_id) DO NOTHING";
+
+    private static final String FIND_SNAPSHOTS_SQL = "SELECT team_id, active_players FROM lineup_snapshot WHERE date = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void replaceSlots(long teamId, String[] slotNames, Long[] playerIds) {
+        if (slotNames.length == 0) {
+            return;
+        }
+
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(CLEAR_SLOTS_SQL);
+            ps.setLong(1, teamId);
+            ps.setArray(2, con.createArrayOf("varchar", slotNames));
+            return ps;
+        });
+
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(FILL_SLOTS_SQL);
+            ps.setLong(1, teamId);
+            ps.setArray(2, con.createArrayOf("varchar", slotNames));
+            ps.setArray(3, con.createArrayOf("bigint", playerIds));
+            return ps;
+        });
+    }
+
+    @Override
+    public void saveSnapshots(LocalDate date, Map<Long, byte[]> activePlayersByTeam) {
+        if (activePlayersByTeam.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, byte[]>> snapshots = new ArrayList<>(activePlayersByTeam.entrySet());
+        jdbcTemplate.batchUpdate(SAVE_SNAPSHOT_SQL, snapshots, snapshots.size(), (ps, snapshot) -> {
+            ps.setDate(1, Date.valueOf(date));
+            ps.setLong(2, snapshot.getKey());
+            ps.setBytes(3, snapshot.getValue());
+        });
+    }
+
+    @Override
+    public int saveMissingRosterSnapshots(LocalDate date) {
+        List<Long> teamIds = jdbcTemplate.queryForList(MISSING_SNAPSHOTS_SQL, Long.class, Date.valueOf(date));
+        List<Object[]> missing = teamIds.stream().map(teamId -> new Object[] { date, teamId }).toList();
+        return saveRosterSnapshots(missing);
+    }
+
+    @Override
+    public int saveMissingRosterSnapshots() {
+        List<Object[]> missing = jdbcTemplate.query(MISSING_STAT_DAY_SNAPSHOTS_SQL,
+                (rs, row) -> new Object[] { rs.getDate(1).toLocalDate(), rs.getLong(2) });
+        return saveRosterSnapshots(missing);
+    }
+
+    @Override
+    public Map<Long, byte[]> findSnapshots(LocalDate date) {
+        Map<Long, byte[]> snapshots = new HashMap<>();
+        jdbcTemplate.query(FIND_SNAPSHOTS_SQL, rs -> {
+            snapshots.put(rs.getLong(1), rs.getBytes(2));
+        }, Date.valueOf(date));
+        return snapshots;
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * Stores the current roster of each [date, teamId] pair as its snapshot,
+     * unless a snapshot was stored meanwhile.
+     */
+    private int saveRosterSnapshots(List<Object[]> teamDays) {
+        if (teamDays.isEmpty()) {
+            return 0;
+        }
+        Map<Long, BitSet> rosters = new HashMap<>();
+        jdbcTemplate.query(ROSTERS_SQL, rs -> {
+            rosters.computeIfAbsent(rs.getLong(1), id -> new BitSet()).set(Math.toIntExact(rs.getLong(2)));
+        });
+
+        jdbcTemplate.batchUpdate(SAVE_MISSING_SNAPSHOT_SQL, teamDays, teamDays.size(), (ps, teamDay) -> {
+            BitSet roster = rosters.getOrDefault((Long) teamDay[1], new BitSet());
+            ps.setDate(1, Date.valueOf((LocalDate) teamDay[0]));
+            ps.setLong(2, (Long) teamDay[1]);
+            ps.setBytes(3, roster.toByteArray());
+        });
+        return teamDays.size();
+    }
+}
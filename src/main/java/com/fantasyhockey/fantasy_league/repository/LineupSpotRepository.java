@@ -3,13 +3,14 @@ package com.fantasyhockey.fantasy_league.repository;
 import com.fantasyhockey.fantasy_league.model.FantasyTeam;
 import com.fantasyhockey.fantasy_league.model.LineupSpot;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface LineupSpotRepository extends JpaRepository<LineupSpot, Long> {
+public interface LineupSpotRepository extends JpaRepository<LineupSpot, Long>, LineupSpotBatchRepository {
 
     // Najdi obsazený slot v konkrétním týmu (např. kdo je GK v mém týmu?)
     Optional<LineupSpot> findByTeamAndSlotName(FantasyTeam team, String slotName);
@@ -19,4 +20,8 @@ public interface LineupSpotRepository extends JpaRepository<LineupSpot, Long> {
 
     // Smazání hráče ze slotu (když klikneš na křížek)
     void deleteByTeamAndSlotName(FantasyTeam team, String slotName);
+
+    // Dvojice [0] teamId, [1] playerId nasazených hráčů, kteří jsou stále na soupisce týmu (snímek sestav)
+    @Query("SELECT s.team.id, s.player.id FROM LineupSpot s WHERE s.player MEMBER OF s.team.players")
+    List<Object[]> findActiveLineupPairs();
 }
\ No newline at end of file
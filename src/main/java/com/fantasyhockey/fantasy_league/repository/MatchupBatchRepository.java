@@ -0,0 +1,19 @@
+package com.fantasyhockey.fantasy_league.repository;
+
+/**
+ * Set-based write operations for Matchup.
+ */
+public interface MatchupBatchRepository {
+
+    /**
+     * Writes the scores of several matchups with a single UPDATE. Only rows
+     * whose score actually changes are written, and their optimistic lock
+     * version is bumped, so a stale Matchup entity can not overwrite them.
+     *
+     * @param ids        Matchup IDs
+     * @param homeScores home scores in hundredths, aligned with {@code ids}
+     * @param awayScores away scores in hundredths, aligned with {@code ids}
+     * @return number of matchups changed
+     */
+    int updateScores(Long[] ids, Long[] homeScores, Long[] awayScores);
+}
@@ -0,0 +1,36 @@
+package com.fantasyhockey.fantasy_league.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+
+/**
+ * JDBC implementation of {@link MatchupBatchRepository}.
+ * Matchup IDs and scores are passed as PostgreSQL arrays and joined with
+ * unnest, so a whole game week is written in one statement.
+ */
+@RequiredArgsConstructor
+public class MatchupBatchRepositoryImpl implements MatchupBatchRepository {
+
+    private static final String UPDATE_SCORES_SQL = "UPDATE matchup m "
+            + "SET home_score = d.home_score, away_score = d.away_score, version = m.version + 1 "
+            + "FROM unnest(?, ?, ?) AS d(id, home_score, away_score) "
+            + "WHERE m.id = d.id AND (m.home_score <> d.home_score OR m.away_score <> d.away_score)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int updateScores(Long[] ids, Long[] homeScores, Long[] awayScores) {
+        if (ids.length == 0) {
+            return 0;
+        }
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(UPDATE_SCORES_SQL);
+            ps.setArray(1, con.createArrayOf("bigint", ids));
+            ps.setArray(2, con.createArrayOf("bigint", homeScores));
+            ps.setArray(3, con.createArrayOf("bigint", awayScores));
+            return ps;
+        });
+    }
+}
@@ -8,7 +8,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface MatchupRepository extends JpaRepository<Matchup, Long> {
+public interface MatchupRepository extends JpaRepository<Matchup, Long>, MatchupBatchRepository {
     List<Matchup> findByGameWeek(GameWeek gameWeek);
 
     List<Matchup> findByGameWeekOrderByIdAsc(GameWeek gameWeek);
@@ -17,4 +17,14 @@ public interface MatchupRepository extends JpaRepository<Matchup, Long> {
     List<Matchup> findAllByTeamAndWeekBefore(
             @org.springframework.data.repository.query.Param("team") com.fantasyhockey.fantasy_league.model.FantasyTeam team,
             @org.springframework.data.repository.query.Param("week") GameWeek week);
+
+    // Zápasy dokončených týdnů, jejichž výsledek ještě není v tabulce
+    @org.springframework.data.jpa.repository.Query("SELECT m FROM Matchup m WHERE m.resultApplied = false AND m.gameWeek.isCompleted = true")
+    List<Matchup> findPendingCompletedMatchups();
+
+    boolean existsByResultAppliedTrue();
+
+    @org.springframework.data.jpa.repository.Modifying
+    @org.springframework.data.jpa.repository.Query("UPDATE Matchup m SET m.resultApplied = false")
+    int resetResultApplied();
 }
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +21,13 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
     // Můžeme si dadefinovat vlastní, např. hledání podle NHL ID:
     Optional<Player> findByNhlId(Long nhlId);
 
+    // Hromadné načtení hráčů jedné soupisky (import soupisek)
+    List<Player> findByNhlIdIn(Collection<Long> nhlIds);
+
+    // Všechny dvojice [0] nhlId, [1] id pro zahřátí cache PlayerIdResolver
+    @Query("SELECT p.nhlId, p.id FROM Player p")
+    List<Object[]> findAllNhlIdPairs();
+
     // 1. Najdi hráče podle týmu (seřazené podle jména)
     List<Player> findByTeamNameOrderByLastNameAsc(String teamName);
 
@@ -0,0 +1,24 @@
+package com.fantasyhockey.fantasy_league.repository;
+
+import com.fantasyhockey.fantasy_league.model.PlayerStats;
+
+import java.util.List;
+
+/**
+ * Set-based write operations for the player_season_totals projection.
+ */
+public interface PlayerSeasonTotalsBatchRepository {
+
+    /**
+     * Adds freshly recorded stat rows to their players' season totals with
+     * one JDBC batch of upserts.
+     *
+     * @param stats newly inserted stat rows
+     */
+    void addGames(List<PlayerStats> stats);
+
+    /**
+     * Recomputes all season totals from player_stats.
+     */
+    void rebuild();
+}
@@ -0,0 +1,72 @@
+package com.fantasyhockey.fantasy_league.repository;
+
+import com.fantasyhockey.fantasy_league.model.PlayerStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link PlayerSeasonTotalsBatchRepository}.
+ * Each stat row is one upsert on the player_id primary key; the first game
+ * of a player inserts the row, later ones add to its sums.
+ */
+@RequiredArgsConstructor
+public class PlayerSeasonTotalsBatchRepositoryImpl implements PlayerSeasonTotalsBatchRepository {
+
+    private static final String COLUMNS = "games_played, goals, assists, plus_minus, shots, blocked_shots, "
+            + "hits, pim, saves, shots_against, goals_against, fantasy_points";
+
+    private static final String ADD_GAME_SQL = "INSERT INTO player_season_totals (player_id, " + COLUMNS + ") "
+            + "VALUES (?, 1, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (player_id) DO UPDATE SET "
+            + "games_played = player_season_totals.games_played + 1, "
+            + "goals = player_season_totals.goals + EXCLUDED.goals, "
+            + "assists = player_season_totals.assists + EXCLUDED.assists, "
+            + "plus_minus = player_season_totals.plus_minus + EXCLUDED.plus_minus, "
+            + "shots = player_season_totals.shots + EXCLUDED.shots, "
+            + "blocked_shots = player_season_totals.blocked_shots + EXCLUDED.blocked_shots, "
+            + "hits = player_season_totals.hits + EXCLUDED.hits, "
+            + "pim = player_season_totals.pim + EXCLUDED.pim, "
+            + "saves = player_season_totals.saves + EXCLUDED.saves, "
+            + "shots_against = player_season_totals.shots_against + EXCLUDED.shots_against, "
+            + "goals_against = player_season_totals.goals_against + EXCLUDED.goals_against, "
+            + "fantasy_points = player_season_totals.fantasy_points + EXCLUDED.fantasy_points";
+
+    private static final String REBUILD_SQL = "INSERT INTO player_season_totals (player_id, " + COLUMNS + ") "
+            + "SELECT p.id, COUNT(s.id), COALESCE(SUM(s.goals), 0), COALESCE(SUM(s.assists), 0), "
+            + "COALESCE(SUM(s.plus_minus), 0), COALESCE(SUM(s.shots), 0), COALESCE(SUM(s.blocked_shots), 0), "
+            + "COALESCE(SUM(s.hits), 0), COALESCE(SUM(s.pim), 0), COALESCE(SUM(s.saves), 0), "
+            + "COALESCE(SUM(s.shots_against), 0), COALESCE(SUM(s.goals_against), 0), "
+            + "COALESCE(SUM(s.fantasy_points), 0) "
+            + "FROM players p LEFT JOIN player_stats s ON s.player_id = p.id GROUP BY p.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addGames(List<PlayerStats> stats) {
+        if (stats.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ADD_GAME_SQL, stats, stats.size(), (ps, s) -> {
+            ps.setLong(1, s.getPlayer().getId());
+            ps.setInt(2, s.getGoals());
+            ps.setInt(3, s.getAssists());
+            ps.setInt(4, s.getPlusMinus());
+            ps.setInt(5, s.getShots());
+            ps.setInt(6, s.getBlockedShots());
+            ps.setInt(7, s.getHits());
+            ps.setInt(8, s.getPim());
+            ps.setInt(9, s.getSaves());
+            ps.setInt(10, s.getShotsAgainst());
+            ps.setInt(11, s.getGoalsAgainst());
+            ps.setLong(12, s.getFantasyPoints());
+        });
+    }
+
+    @Override
+    public void rebuild() {
+        jdbcTemplate.update("DELETE FROM player_season_totals");
+        jdbcTemplate.update(REBUILD_SQL);
+    }
+}
@@ -0,0 +1,10 @@
+package com.fantasyhockey.fantasy_league.repository;
+
+import com.fantasyhockey.fantasy_league.model.PlayerSeasonTotals;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PlayerSeasonTotalsRepository
+        extends JpaRepository<PlayerSeasonTotals, Long>, PlayerSeasonTotalsBatchRepository {
+}
@@ -0,0 +1,44 @@
+package com.fantasyhockey.fantasy_league.repository;
+
+import com.fantasyhockey.fantasy_league.dto.StoredStatLine;
+import com.fantasyhockey.fantasy_league.model.PlayerStats;
+
+import java.util.List;
+
+/**
+ * Bulk read and write operations for PlayerStats that bypass per-entity
+ * persistence.
+ */
+public interface PlayerStatsBatchRepository {
+
+    /**
+     * Inserts all stat rows with a single JDBC batch.
+     * Rows whose (player_id, game_id) is already recorded are skipped by the
+     * database; the per-row update counts tell which rows were inserted.
+     * Only the player's ID is read from {@link PlayerStats#getPlayer()}, so a
+     * lazy reference is sufficient.
+     *
+     * @param stats rows to insert
+     * @return the rows that were actually inserted
+     */
+    List<PlayerStats> insertAll(List<PlayerStats> stats);
+
+    /**
+     * Reads the next chunk of stored stat rows in ID order (keyset paging),
+     * so the whole table can be streamed without OFFSET scans.
+     *
+     * @param afterId only rows with a greater ID are returned
+     * @param limit   maximum number of rows
+     * @return raw stat lines ordered by ID
+     */
+    List<StoredStatLine> findRawStatsAfter(long afterId, int limit);
+
+    /**
+     * Overwrites the fantasy points of several rows with a single UPDATE.
+     *
+     * @param ids    PlayerStats IDs
+     * @param points new fantasy points in hundredths, aligned with {@code ids}
+     * @return number of rows updated
+     */
+    int updateFantasyPoints(Long[] ids, Long[] points);
+}
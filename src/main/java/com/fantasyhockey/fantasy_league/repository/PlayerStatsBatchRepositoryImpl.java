@@ -0,0 +1,106 @@
+package com.fantasyhockey.fantasy_league.repository;
+
+import com.fantasyhockey.fantasy_league.dto.StoredStatLine;
+import com.fantasyhockey.fantasy_league.model.PlayerStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link PlayerStatsBatchRepository}.
+ * PlayerStats uses IDENTITY keys, which makes Hibernate give up insert
+ * batching, so the rows are written with a plain JDBC batch instead.
+ * Telling inserted rows from duplicates relies on per-statement update
+ * counts, so the driver must not rewrite batched inserts
+ * (reWriteBatchedInserts stays off).
+ */
+@RequiredArgsConstructor
+public class PlayerStatsBatchRepositoryImpl implements PlayerStatsBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO player_stats (player_id, date, game_id, goals, assists, "
+            + "plus_minus, shots, blocked_shots, hits, pim, saves, shots_against, goals_against, win, fantasy_points) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (player_id, game_id) DO NOTHING";
+
+    private static final String FIND_RAW_SQL = "SELECT s.id, p.position, s.goals, s.assists, s.plus_minus, "
+            + "s.shots, s.blocked_shots, s.hits, s.pim, s.saves, s.shots_against, s.goals_against, s.win, "
+            + "s.fantasy_points FROM player_stats s JOIN players p ON p.id = s.player_id "
+            + "WHERE s.id > ? ORDER BY s.id LIMIT ?";
+
+    private static final String UPDATE_POINTS_SQL = "UPDATE player_stats s SET fantasy_points = d.points "
+            + "FROM unnest(?, ?) AS d(id, points) WHERE s.id = d.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<PlayerStats> insertAll(List<PlayerStats> stats) {
+        if (stats.isEmpty()) {
+            return List.of();
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, stats, stats.size(), (ps, s) -> {
+            ps.setLong(1, s.getPlayer().getId());
+            ps.setDate(2, Date.valueOf(s.getDate()));
+            ps.setLong(3, s.getGameId());
+            ps.setInt(4, s.getGoals());
+            ps.setInt(5, s.getAssists());
+            ps.setInt(6, s.getPlusMinus());
+            ps.setInt(7, s.getShots());
+            ps.setInt(8, s.getBlockedShots());
+            ps.setInt(9, s.getHits());
+            ps.setInt(10, s.getPim());
+            ps.setInt(11, s.getSaves());
+            ps.setInt(12, s.getShotsAgainst());
+            ps.setInt(13, s.getGoalsAgainst());
+            ps.setBoolean(14, s.isWin());
+            ps.setLong(15, s.getFantasyPoints());
+        });
+
+        List<PlayerStats> inserted = new ArrayList<>(stats.size());
+        int i = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count > 0) {
+                    inserted.add(stats.get(i));
+                }
+                i++;
+            }
+        }
+        return inserted;
+    }
+
+    @Override
+    public List<StoredStatLine> findRawStatsAfter(long afterId, int limit) {
+        return jdbcTemplate.query(FIND_RAW_SQL, (rs, rowNum) -> new StoredStatLine(
+                rs.getLong(1),
+                "G".equals(rs.getString(2)),
+                rs.getInt(3),
+                rs.getInt(4),
+                rs.getInt(5),
+                rs.getInt(6),
+                rs.getInt(7),
+                rs.getInt(8),
+                rs.getInt(9),
+                rs.getInt(10),
+                rs.getInt(11),
+                rs.getInt(12),
+                rs.getBoolean(13),
+                rs.getLong(14)), afterId, limit);
+    }
+
+    @Override
+    public int updateFantasyPoints(Long[] ids, Long[] points) {
+        if (ids.length == 0) {
+            return 0;
+        }
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(UPDATE_POINTS_SQL);
+            ps.setArray(1, con.createArrayOf("bigint", ids));
+            ps.setArray(2, con.createArrayOf("bigint", points));
+            return ps;
+        });
+    }
+}
@@ -10,7 +10,7 @@ import java.util.List;
  * Provides methods for querying game-by-game player statistics.
  */
 @Repository
-public interface PlayerStatsRepository extends JpaRepository<PlayerStats, Long> {
+public interface PlayerStatsRepository extends JpaRepository<PlayerStats, Long>, PlayerStatsBatchRepository {
 
         /**
          * Finds all stats records for a specific player.
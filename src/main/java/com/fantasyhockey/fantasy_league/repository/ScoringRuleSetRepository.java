@@ -0,0 +1,18 @@
+package com.fantasyhockey.fantasy_league.repository;
+
+import com.fantasyhockey.fantasy_league.model.ScoringRuleSet;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ScoringRuleSetRepository extends JpaRepository<ScoringRuleSet, Long> {
+
+    Optional<ScoringRuleSet> findFirstByLeagueKeyAndActiveTrueOrderByVersionDesc(String leagueKey);
+
+    Optional<ScoringRuleSet> findFirstByLeagueKeyOrderByVersionDesc(String leagueKey);
+
+    List<ScoringRuleSet> findByLeagueKeyAndActiveTrue(String leagueKey);
+}
@@ -0,0 +1,40 @@
+package com.fantasyhockey.fantasy_league.repository;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Set-based write operations for the team_week_score aggregate.
+ */
+public interface TeamWeekScoreBatchRepository {
+
+    /**
+     * Credits points scored by players on a day to the weekly scores of the
+     * teams that had them in that day's snapshot, with a single upsert. Teams
+     * without a snapshot of the day score nothing, so missing roster
+     * snapshots must be stored first. The game week is the one containing
+     * {@code date}; nothing is written if no game week covers that day.
+     *
+     * @param date           day the points were scored
+     * @param pointsByPlayer points to add in hundredths, keyed by player ID
+     */
+    void addPoints(LocalDate date, Map<Long, Long> pointsByPlayer);
+
+    /**
+     * Recomputes the whole aggregate with one set-based query: player_stats
+     * joined to the snapshot of each stat line's day.
+     */
+    void rebuild();
+
+    /**
+     * Highest total a single player contributed to a team's score between two
+     * days, counting the same stat lines as the weekly score: days the player
+     * was in the team's snapshot.
+     *
+     * @param teamId    the team
+     * @param startDate first day (inclusive)
+     * @param endDate   last day (inclusive)
+     * @return points in hundredths, 0 if no player scored
+     */
+    long findBestPlayerPoints(long teamId, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,85 @@
+package com.fantasyhockey.fantasy_league.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * JDBC implementation of {@link TeamWeekScoreBatchRepository}.
+ * Upserts rely on the unique (team_id, game_week_id) constraint.
+ *
+ * A stat line counts for a team if the player's bit is set in the team's
+ * snapshot of that day (one get_bit per line). Team-days that had no lineup
+ * snapshot get the roster of the time stored as their snapshot before
+ * points are credited (see
+ * {@link LineupSpotBatchRepository#saveMissingRosterSnapshots(LocalDate)}),
+ * so incremental updates and rebuilds count the same players.
+ */
+@RequiredArgsConstructor
+public class TeamWeekScoreBatchRepositoryImpl implements TeamWeekScoreBatchRepository {
+
+    private static final String IN_SNAPSHOT = LineupSpotBatchRepositoryImpl.IN_SNAPSHOT;
+
+    private static final String ADD_POINTS_SQL = "INSERT INTO team_week_score (team_id, game_week_id, points) "
+            + "SELECT ls.team_id, gw.id, SUM(d.points) FROM unnest(?, ?) AS d(player_id, points) "
+            + "JOIN lineup_snapshot ls ON ls.date = ? AND " + IN_SNAPSHOT.formatted("d.player_id") + " "
+            + "JOIN game_week gw ON ? BETWEEN gw.start_date AND gw.end_date "
+            + "GROUP BY ls.team_id, gw.id "
+            + "ON CONFLICT (team_id, game_week_id) "
+            + "DO UPDATE SET points = team_week_score.points + EXCLUDED.points";
+
+    private static final String REBUILD_SQL = "INSERT INTO team_week_score (team_id, game_week_id, points) "
+            + "SELECT ls.team_id, gw.id, SUM(ps.fantasy_points) FROM player_stats ps "
+            + "JOIN lineup_snapshot ls ON ls.date = ps.date AND " + IN_SNAPSHOT.formatted("ps.player_id") + " "
+            + "JOIN game_week gw ON ps.date BETWEEN gw.start_date AND gw.end_date "
+            + "GROUP BY ls.team_id, gw.id";
+
+    private static final String BEST_PLAYER_SQL = "SELECT COALESCE(MAX(p.points), 0) FROM ("
+            + "SELECT ps.player_id, SUM(ps.fantasy_points) AS points FROM player_stats ps "
+            + "JOIN lineup_snapshot ls ON ls.team_id = ? AND ls.date = ps.date AND "
+            + IN_SNAPSHOT.formatted("ps.player_id") + " "
+            + "WHERE ps.date BETWEEN ? AND ? GROUP BY ps.player_id) p";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addPoints(LocalDate date, Map<Long, Long> pointsByPlayer) {
+        if (pointsByPlayer.isEmpty()) {
+            return;
+        }
+        Long[] playerIds = new Long[pointsByPlayer.size()];
+        Long[] points = new Long[pointsByPlayer.size()];
+        int i = 0;
+        for (Map.Entry<Long, Long> entry : pointsByPlayer.entrySet()) {
+            playerIds[i] = entry.getKey();
+            points[i] = entry.getValue();
+            i++;
+        }
+
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(ADD_POINTS_SQL);
+            ps.setArray(1, con.createArrayOf("bigint", playerIds));
+            ps.setArray(2, con.createArrayOf("bigint", points));
+            ps.setDate(3, Date.valueOf(date));
+            ps.setDate(4, Date.valueOf(date));
+            return ps;
+        });
+    }
+
+    @Override
+    public void rebuild() {
+        jdbcTemplate.update("DELETE FROM team_week_score");
+        jdbcTemplate.update(REBUILD_SQL);
+    }
+
+    @Override
+    public long findBestPlayerPoints(long teamId, LocalDate startDate, LocalDate endDate) {
+        Long best = jdbcTemplate.queryForObject(BEST_PLAYER_SQL, Long.class,
+                teamId, Date.valueOf(startDate), Date.valueOf(endDate));
+        return best != null ? best : 0L;
+    }
+}
@@ -0,0 +1,18 @@
+package com.fantasyhockey.fantasy_league.repository;
+
+import com.fantasyhockey.fantasy_league.model.GameWeek;
+import com.fantasyhockey.fantasy_league.model.TeamWeekScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TeamWeekScoreRepository extends JpaRepository<TeamWeekScore, Long>, TeamWeekScoreBatchRepository {
+
+    // Dvojice [0] teamId, [1] body pro všechny týmy v daném týdnu (jeden dotaz pro celý týden)
+    @Query("SELECT s.team.id, s.points FROM TeamWeekScore s WHERE s.gameWeek = :week")
+    List<Object[]> findScoresForWeek(@Param("week") GameWeek week);
+}
@@ -0,0 +1,124 @@
+package com.fantasyhockey.fantasy_league.service;
+
+import com.fantasyhockey.fantasy_league.model.FantasyPoints;
+import com.fantasyhockey.fantasy_league.model.ScoringRule;
+import com.fantasyhockey.fantasy_league.model.ScoringStat;
+
+import java.util.List;
+
+/**
+ * Scoring rules compiled into flat coefficient arrays indexed by
+ * {@link ScoringStat#ordinal()}.
+ * Weights and bonuses are converted to fixed-point hundredths once at compile
+ * time (see {@link FantasyPoints}), so evaluation is plain long arithmetic
+ * with no rounding, allocation, reflection or map lookups and can run on the
+ * ingestion hot path. Instances are immutable
+ * and safe to share between threads.
+ */
+public final class CompiledScoring {
+
+    private static final int GOALS = ScoringStat.GOALS.ordinal();
+    private static final int ASSISTS = ScoringStat.ASSISTS.ordinal();
+    private static final int PLUS_MINUS = ScoringStat.PLUS_MINUS.ordinal();
+    private static final int SHOTS = ScoringStat.SHOTS.ordinal();
+    private static final int BLOCKED_SHOTS = ScoringStat.BLOCKED_SHOTS.ordinal();
+    private static final int HITS = ScoringStat.HITS.ordinal();
+    private static final int PIM = ScoringStat.PIM.ordinal();
+    private static final int SAVES = ScoringStat.SAVES.ordinal();
+    private static final int GOALS_AGAINST = ScoringStat.GOALS_AGAINST.ordinal();
+    private static final int SHUTOUTS = ScoringStat.SHUTOUTS.ordinal();
+    private static final int WINS = ScoringStat.WINS.ordinal();
+
+    private final int version;
+    private final long[] weights;
+    private final int[] thresholds;
+    private final long[] bonuses;
+
+    private CompiledScoring(int version, long[] weights, int[] thresholds, long[] bonuses) {
+        this.version = version;
+        this.weights = weights;
+        this.thresholds = thresholds;
+        this.bonuses = bonuses;
+    }
+
+    /**
+     * Compiles a list of rules. Weights of several rules for the same
+     * statistic add up; a statistic may have at most one bonus threshold.
+     * Weights finer than a hundredth of a point are rounded.
+     *
+     * @param version version of the rule set
+     * @param rules   rules to compile
+     * @return the compiled evaluator
+     * @throws IllegalArgumentException if a rule has no statistic, a weight or
+     *         bonus is not a finite number, a threshold is negative, or a
+     *         statistic has two bonus thresholds
+     */
+    public static CompiledScoring compile(int version, List<ScoringRule> rules) {
+        int slots = ScoringStat.values().length;
+        long[] weights = new long[slots];
+        int[] thresholds = new int[slots];
+        long[] bonuses = new long[slots];
+
+        for (ScoringRule rule : rules) {
+            if (rule.getStat() == null) {
+                throw new IllegalArgumentException("Scoring rule without a statistic");
+            }
+            if (!Double.isFinite(rule.getWeight()) || !Double.isFinite(rule.getBonus())) {
+                throw new IllegalArgumentException("Weight and bonus of " + rule.getStat() + " must be finite");
+            }
+            if (rule.getThreshold() < 0) {
+                throw new IllegalArgumentException("Negative bonus threshold for " + rule.getStat());
+            }
+            int slot = rule.getStat().ordinal();
+            weights[slot] += FantasyPoints.fromPoints(rule.getWeight());
+            if (rule.getThreshold() > 0) {
+                if (thresholds[slot] > 0) {
+                    throw new IllegalArgumentException("Duplicate bonus threshold for " + rule.getStat());
+                }
+                thresholds[slot] = rule.getThreshold();
+                bonuses[slot] = FantasyPoints.fromPoints(rule.getBonus());
+            }
+        }
+        return new CompiledScoring(version, weights, thresholds, bonuses);
+    }
+
+    /**
+     * @return version of the rule set this evaluator was compiled from
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Calculates fantasy points of a skater's game in hundredths.
+     */
+    public long skaterPoints(int goals, int assists, int plusMinus, int shots, int blockedShots, int hits,
+            int pim) {
+        return term(GOALS, goals)
+                + term(ASSISTS, assists)
+                + term(PLUS_MINUS, plusMinus)
+                + term(SHOTS, shots)
+                + term(BLOCKED_SHOTS, blockedShots)
+                + term(HITS, hits)
+                + term(PIM, pim);
+    }
+
+    /**
+     * Calculates fantasy points of a goalie's game in hundredths.
+     */
+    public long goaliePoints(int saves, int goalsAgainst, boolean shutout, boolean win) {
+        return term(SAVES, saves)
+                + term(GOALS_AGAINST, goalsAgainst)
+                + term(SHUTOUTS, shutout ? 1 : 0)
+                + term(WINS, win ? 1 : 0);
+    }
+
+    private long term(int slot, int value) {
+        long points = value * weights[slot];
+        int threshold = thresholds[slot];
+        if (threshold > 0 && value >= threshold) {
+            points += bonuses[slot];
+        }
+        return points;
+    }
+}
@@ -18,6 +18,7 @@ public class DailyUpdateService {
     private static final Logger logger = LoggerFactory.getLogger(DailyUpdateService.class);
     private final NhlApiService nhlApiService;
     private final ScheduleService scheduleService;
+    private final StandingsService standingsService;
 
     /**
      * Runs daily at 8:00 AM to update player data and game week statuses.
@@ -25,6 +26,7 @@ public class DailyUpdateService {
      * 1. Game week statuses (current/completed flags)
      * 2. Player injury statuses from NHL API
      * 3. Game statistics from yesterday's games
+     * 4. Standings, with results of matchups from newly completed weeks
      * 
      * Cron expression: "0 0 8 * * *"
      * - Second: 0
@@ -45,6 +47,9 @@ public class DailyUpdateService {
         nhlApiService.updatePlayerInjuries();
         nhlApiService.updateStatsFromYesterday();
 
+        // Apply results of weeks that just completed (after their last day's stats)
+        standingsService.applyCompletedWeeks();
+
         logger.info("✅ Daily update completed.");
     }
 }
\ No newline at end of file
@@ -0,0 +1,495 @@
+package com.fantasyhockey.fantasy_league.service;
+
+import com.fantasyhockey.fantasy_league.model.DraftState;
+import com.fantasyhockey.fantasy_league.model.FantasyTeam;
+import com.fantasyhockey.fantasy_league.model.Player;
+import com.fantasyhockey.fantasy_league.repository.DraftStateRepository;
+import com.fantasyhockey.fantasy_league.repository.FantasyTeamRepository;
+import com.fantasyhockey.fantasy_league.repository.PlayerRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Live draft room: a server-side snake pick order with a pick clock,
+ * broadcast to all connected participants over WebSocket (/draft/ws).
+ *
+ * Every pick is written through to the team's roster with the atomic claim
+ * of {@link FantasyTeamService#draftPlayer(Long, Long)} before it is
+ * announced. Who owns which player and how full each roster is are read
+ * from the {@link RosterIndex}, so players released by an admin during the
+ * draft can be drafted again. The number of the next pick is stored in
+ * draft_state after every pick.
+ *
+ * The clock, the pick log and the pick queues live in memory only. After a
+ * restart the draft is stopped; {@link #resume()} continues it at the
+ * stored pick with a fresh clock, empty queues and a log starting from
+ * there.
+ *
+ * Events sent to clients (JSON objects with a "type"):
+ * - "state": full snapshot, sent on connect, start and stop
+ * - "pick": a player was drafted (also auto-picks from the queue)
+ * - "skip": the team on the clock let the time run out with nothing queued
+ * - "clock": team on the clock and seconds left, once per second
+ * - "queue": the participant's own pick queue (only sent to that team)
+ * - "error": a rejected request of this participant
+ */
+@Service
+@RequiredArgsConstructor
+public class DraftRoomService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DraftRoomService.class);
+
+    /**
+     * Picks per team: a full roster.
+     */
+    private static final int ROUNDS = FantasyTeamService.MAX_FORWARDS + FantasyTeamService.MAX_DEFENSEMEN
+            + FantasyTeamService.MAX_GOALIES;
+
+    private static final int SEND_TIME_LIMIT_MS = 5000;
+    private static final int SEND_BUFFER_LIMIT = 64 * 1024;
+
+    private final FantasyTeamRepository teamRepository;
+    private final PlayerRepository playerRepository;
+    private final FantasyTeamService fantasyTeamService;
+    private final RosterIndex rosterIndex;
+    private final DraftStateRepository draftStateRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.draft.pick-seconds:90}")
+    private int pickSeconds;
+
+    /**
+     * A drafted player as announced to clients.
+     */
+    public record Pick(int number, long teamId, long playerId, String playerName, String position, boolean auto) {
+    }
+
+    private record Participant(WebSocketSession session, Long teamId) {
+    }
+
+    private final Map<String, Participant> participants = new ConcurrentHashMap<>();
+
+    // Draft state, guarded by this service's monitor
+    private boolean running;
+    private List<Long> order = List.of();
+    private Map<Long, String> teamNames = Map.of();
+    private int pickNumber;
+    private Instant deadline = Instant.EPOCH;
+    private final List<Pick> picks = new ArrayList<>();
+    private final Map<Long, List<Long>> queues = new HashMap<>();
+
+    // ==================== Draft Lifecycle ====================
+
+    /**
+     * @return true while a live draft is in progress
+     */
+    public synchronized boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Starts a draft. Teams pick in snake order by team ID; players already
+     * on rosters stay taken and teams with a full roster are skipped.
+     *
+     * @throws IllegalStateException if a draft is already running or there
+     *                               are no teams
+     */
+    public synchronized void start() {
+        if (running) {
+            throw new IllegalStateException("Draft už běží");
+        }
+        loadTeams();
+        queues.keySet().retainAll(order);
+        begin(0);
+        logger.info("🏒 Živý draft zahájen ({} týmů, {} s na volbu)", order.size(), pickSeconds);
+        broadcastAll(snapshot());
+    }
+
+    /**
+     * Continues the last draft at the pick stored in draft_state, e.g. after
+     * a restart. The clock starts over for the team on the clock; earlier
+     * picks stay on the rosters but are not repeated in the pick log.
+     *
+     * @throws IllegalStateException if a draft is running, no draft was
+     *                               started yet, it already finished or
+     *                               there are no teams
+     */
+    public synchronized void resume() {
+        if (running) {
+            throw new IllegalStateException("Draft už běží");
+        }
+        DraftState state = draftStateRepository.findById(ScoringRuleService.DEFAULT_LEAGUE)
+                .orElseThrow(() -> new IllegalStateException("Žádný draft k pokračování"));
+        loadTeams();
+        if (state.getPickNumber() >= order.size() * ROUNDS) {
+            throw new IllegalStateException("Draft už skončil");
+        }
+        begin(state.getPickNumber());
+        logger.info("🏒 Živý draft pokračuje volbou {}", pickNumber + 1);
+        broadcastAll(snapshot());
+    }
+
+    /**
+     * Stops the draft. Picks made so far stay on the rosters.
+     */
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        logger.info("🏒 Živý draft ukončen po {} volbách", picks.size());
+        broadcastAll(snapshot());
+    }
+
+    // ==================== Participants ====================
+
+    /**
+     * Registers a connected participant and sends them the current state.
+     * Users without a team can watch but not pick.
+     *
+     * @param session the participant's WebSocket session
+     */
+    public void join(WebSocketSession session) {
+        Principal principal = session.getPrincipal();
+        Long teamId = principal == null ? null
+                : fantasyTeamService.getTeamByUsername(principal.getName()).map(FantasyTeam::getId).orElse(null);
+        Participant participant = new Participant(
+                new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MS, SEND_BUFFER_LIMIT), teamId);
+        participants.put(session.getId(), participant);
+
+        synchronized (this) {
+            Map<String, Object> state = snapshot();
+            state.put("myTeamId", teamId);
+            send(participant, state);
+            if (teamId != null) {
+                send(participant, queueMessage(teamId));
+            }
+        }
+    }
+
+    /**
+     * Removes a disconnected participant.
+     *
+     * @param session the participant's WebSocket session
+     */
+    public void leave(WebSocketSession session) {
+        participants.remove(session.getId());
+    }
+
+    // ==================== Requests ====================
+
+    /**
+     * Drafts a player for the participant's team if it is on the clock.
+     *
+     * @param session  the participant's WebSocket session
+     * @param playerId the player to draft
+     */
+    public void pick(WebSocketSession session, long playerId) {
+        Participant participant = participants.get(session.getId());
+        if (participant == null) {
+            return;
+        }
+        synchronized (this) {
+            String error = validatePick(participant.teamId(), playerId);
+            if (error != null) {
+                send(participant, errorMessage(error));
+                return;
+            }
+            try {
+                recordPick(participant.teamId(), playerId, false);
+            } catch (RuntimeException e) {
+                send(participant, errorMessage(e.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * Replaces the participant's pick queue. When their clock runs out the
+     * first available queued player that fits the roster is drafted.
+     *
+     * @param session   the participant's WebSocket session
+     * @param playerIds players in order of preference
+     */
+    public void setQueue(WebSocketSession session, List<Long> playerIds) {
+        Participant participant = participants.get(session.getId());
+        if (participant == null || participant.teamId() == null) {
+            return;
+        }
+        synchronized (this) {
+            List<Long> queue = new ArrayList<>();
+            for (Long playerId : playerIds) {
+                if (!rosterIndex.isRostered(playerId) && !queue.contains(playerId)) {
+                    queue.add(playerId);
+                }
+            }
+            queues.put(participant.teamId(), queue);
+            sendToTeam(participant.teamId(), queueMessage(participant.teamId()));
+        }
+    }
+
+    // ==================== Pick Clock ====================
+
+    /**
+     * Advances the pick clock once per second: auto-picks (or skips) when the
+     * time is up, otherwise broadcasts the remaining time.
+     */
+    @Scheduled(fixedRate = 1000)
+    public synchronized void tick() {
+        if (!running) {
+            return;
+        }
+        long secondsLeft = Duration.between(Instant.now(), deadline).toSeconds();
+        if (secondsLeft > 0) {
+            if (!participants.isEmpty()) {
+                broadcastAll(clockMessage(secondsLeft));
+            }
+            return;
+        }
+
+        Long teamId = teamOnClock();
+        try {
+            Long queued = firstAvailableQueued(teamId);
+            if (queued != null) {
+                recordPick(teamId, queued, true);
+                return;
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Automatická volba pro tým {} selhala: {}", teamId, e.getMessage());
+        }
+
+        Map<String, Object> skip = new LinkedHashMap<>();
+        skip.put("type", "skip");
+        skip.put("number", pickNumber + 1);
+        skip.put("teamId", teamId);
+        broadcastAll(skip);
+        nextPick();
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * Loads the snake order (teams by ID) and the team names.
+     */
+    private void loadTeams() {
+        List<FantasyTeam> teams = new ArrayList<>(teamRepository.findAll());
+        if (teams.isEmpty()) {
+            throw new IllegalStateException("V lize nejsou žádné týmy");
+        }
+        teams.sort(Comparator.comparing(FantasyTeam::getId));
+
+        order = teams.stream().map(FantasyTeam::getId).toList();
+        Map<Long, String> names = new HashMap<>();
+        teams.forEach(t -> names.put(t.getId(), t.getTeamName()));
+        teamNames = names;
+    }
+
+    private void begin(int firstPick) {
+        picks.clear();
+        running = true;
+        pickNumber = firstPick;
+        skipFullRosters();
+        saveProgress();
+    }
+
+    private void saveProgress() {
+        draftStateRepository.save(new DraftState(ScoringRuleService.DEFAULT_LEAGUE, pickNumber));
+    }
+
+    private String validatePick(Long teamId, long playerId) {
+        if (!running) {
+            return "Draft neběží.";
+        }
+        if (teamId == null) {
+            return "Nemáš tým.";
+        }
+        if (!teamId.equals(teamOnClock())) {
+            return "Nejsi na řadě.";
+        }
+        if (rosterIndex.isRostered(playerId)) {
+            return "Hráče už draftoval jiný tým.";
+        }
+        return null;
+    }
+
+    /**
+     * Writes the pick through to the roster, then updates the in-memory
+     * state and announces it. Must hold the monitor.
+     */
+    private void recordPick(Long teamId, long playerId, boolean auto) {
+        Player player = fantasyTeamService.draftPlayer(playerId, teamId);
+
+        Pick pick = new Pick(pickNumber + 1, teamId, playerId,
+                player.getFirstName() + " " + player.getLastName(), player.getPosition(), auto);
+        picks.add(pick);
+
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("type", "pick");
+        message.put("pick", pick);
+        broadcastAll(message);
+
+        // The player is gone from every queue that held him
+        queues.forEach((queueTeamId, queue) -> {
+            if (queue.remove(Long.valueOf(playerId))) {
+                sendToTeam(queueTeamId, queueMessage(queueTeamId));
+            }
+        });
+        nextPick();
+    }
+
+    private void nextPick() {
+        pickNumber++;
+        skipFullRosters();
+        saveProgress();
+        if (running) {
+            broadcastAll(clockMessage(pickSeconds));
+        }
+    }
+
+    /**
+     * Moves past teams whose roster is already full, ends the draft after
+     * the last round, and restarts the clock.
+     */
+    private void skipFullRosters() {
+        int totalPicks = order.size() * ROUNDS;
+        while (pickNumber < totalPicks && rosterIndex.rosterSize(teamOnClock()) >= ROUNDS) {
+            pickNumber++;
+        }
+        if (pickNumber >= totalPicks) {
+            running = false;
+            logger.info("🏒 Živý draft dokončen ({} voleb)", picks.size());
+            Map<String, Object> end = new LinkedHashMap<>();
+            end.put("type", "end");
+            broadcastAll(end);
+            return;
+        }
+        deadline = Instant.now().plusSeconds(pickSeconds);
+    }
+
+    /**
+     * Team on the clock in snake order: odd rounds run backwards.
+     */
+    private Long teamOnClock() {
+        int teams = order.size();
+        int round = pickNumber / teams;
+        int slot = pickNumber % teams;
+        return order.get(round % 2 == 0 ? slot : teams - 1 - slot);
+    }
+
+    private Long firstAvailableQueued(Long teamId) {
+        for (Long playerId : queues.getOrDefault(teamId, List.of())) {
+            if (rosterIndex.isRostered(playerId)) {
+                continue;
+            }
+            String position = playerRepository.findById(playerId).map(Player::getPosition).orElse(null);
+            if (position != null && fantasyTeamService.hasRosterSpace(teamId, position)) {
+                return playerId;
+            }
+        }
+        return null;
+    }
+
+    private Map<String, Object> snapshot() {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("type", "state");
+        state.put("running", running);
+        state.put("order", order);
+        state.put("teamNames", teamNames);
+        state.put("pickNumber", pickNumber + 1);
+        state.put("onClock", running ? teamOnClock() : null);
+        state.put("secondsLeft", running ? Math.max(0, Duration.between(Instant.now(), deadline).toSeconds()) : 0);
+        state.put("picks", picks);
+        state.put("owners", rosterIndex.owners());
+        return state;
+    }
+
+    private Map<String, Object> clockMessage(long secondsLeft) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("type", "clock");
+        message.put("pickNumber", pickNumber + 1);
+        message.put("onClock", teamOnClock());
+        message.put("secondsLeft", secondsLeft);
+        return message;
+    }
+
+    private Map<String, Object> queueMessage(Long teamId) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("type", "queue");
+        message.put("playerIds", queues.getOrDefault(teamId, List.of()));
+        return message;
+    }
+
+    private Map<String, Object> errorMessage(String error) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("type", "error");
+        message.put("message", error);
+        return message;
+    }
+
+    private void broadcastAll(Map<String, Object> message) {
+        TextMessage text = toText(message);
+        if (text == null) {
+            return;
+        }
+        for (Participant participant : participants.values()) {
+            send(participant, text);
+        }
+    }
+
+    private void sendToTeam(Long teamId, Map<String, Object> message) {
+        TextMessage text = toText(message);
+        if (text == null) {
+            return;
+        }
+        for (Participant participant : participants.values()) {
+            if (teamId.equals(participant.teamId())) {
+                send(participant, text);
+            }
+        }
+    }
+
+    private void send(Participant participant, Map<String, Object> message) {
+        TextMessage text = toText(message);
+        if (text != null) {
+            send(participant, text);
+        }
+    }
+
+    private void send(Participant participant, TextMessage text) {
+        try {
+            participant.session().sendMessage(text);
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or is too slow; drop it
+            participants.remove(participant.session().getId());
+        }
+    }
+
+    private TextMessage toText(Map<String, Object> message) {
+        try {
+            return new TextMessage(objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            logger.error("Zprávu draftu nelze serializovat: {}", e.getMessage());
+            return null;
+        }
+    }
+}
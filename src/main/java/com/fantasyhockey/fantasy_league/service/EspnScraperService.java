@@ -1,5 +1,7 @@
 package com.fantasyhockey.fantasy_league.service;
 
+import com.fantasyhockey.fantasy_league.client.TrafficArchive;
+import lombok.RequiredArgsConstructor;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
@@ -17,11 +19,14 @@ import java.util.Map;
  * Uses web scraping to get current player injury statuses.
  */
 @Service
+@RequiredArgsConstructor
 public class EspnScraperService {
 
     private static final Logger logger = LoggerFactory.getLogger(EspnScraperService.class);
     private static final String ESPN_INJURY_URL = "https://www.espn.com/nhl/injuries";
 
+    private final TrafficArchive trafficArchive;
+
     /**
      * Scrapes ESPN for current NHL player injuries.
      * Only includes players with serious injuries (excludes "Day-To-Day" status).
@@ -32,7 +37,10 @@ public class EspnScraperService {
         Map<String, String> injuredPlayers = new HashMap<>();
 
         try {
-            Document doc = Jsoup.connect(ESPN_INJURY_URL).get();
+            // Fetched through the traffic archive so the page can be recorded/replayed
+            String html = trafficArchive.fetchText(ESPN_INJURY_URL,
+                    () -> Jsoup.connect(ESPN_INJURY_URL).execute().body());
+            Document doc = Jsoup.parse(html, ESPN_INJURY_URL);
             Elements injuryTables = doc.select(".Table__TBODY");
 
             for (Element table : injuryTables) {
@@ -1,5 +1,6 @@
 package com.fantasyhockey.fantasy_league.service;
 
+import com.fantasyhockey.fantasy_league.dto.LineupChange;
 import com.fantasyhockey.fantasy_league.model.FantasyTeam;
 import com.fantasyhockey.fantasy_league.model.LineupSpot;
 import com.fantasyhockey.fantasy_league.model.Player;
@@ -10,11 +11,16 @@ import com.fantasyhockey.fantasy_league.repository.PlayerRepository;
 import com.fantasyhockey.fantasy_league.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -24,7 +30,7 @@ public class FantasyTeamService {
     private final UserRepository userRepository;
     private final PlayerRepository playerRepository;
     private final LineupSpotRepository lineupRepository;
-    private final com.fantasyhockey.fantasy_league.repository.MatchupRepository matchupRepository;
+    private final RosterIndex rosterIndex;
 
     public static final int MAX_FORWARDS = 11;
     public static final int MAX_DEFENSEMEN = 7;
@@ -43,30 +49,86 @@ public class FantasyTeamService {
         teamRepository.save(team);
     }
 
+    /**
+     * Drafts a player to the user's team.
+     * A player belongs to at most one team: the claim is a single insert
+     * guarded by the unique player_id constraint on team_players, so of
+     * several simultaneous claims exactly one wins and the others fail
+     * immediately. Only the claiming team's row is locked (NOWAIT), to keep
+     * its roster limits consistent; drafts of other teams never wait.
+     *
+     * @param playerId the player to draft
+     * @param username the drafting user
+     * @throws RuntimeException if the player is taken, the roster is full or
+     *                          the team is busy with another draft request
+     */
     @Transactional
     public void addPlayerToTeam(Long playerId, String username) {
         FantasyTeam team = getTeamByUsername(username)
                 .orElseThrow(() -> new RuntimeException("Nejdřív si musíš vytvořit tým!"));
+        claimPlayer(team, playerId);
+    }
 
+    /**
+     * Drafts a player to a team identified by ID (used by the live draft
+     * room). Same guarantees as {@link #addPlayerToTeam(Long, String)}.
+     *
+     * @param playerId the player to draft
+     * @param teamId   the drafting team
+     * @return the drafted player
+     * @throws RuntimeException if the player is taken or the roster is full
+     */
+    @Transactional
+    public Player draftPlayer(Long playerId, Long teamId) {
+        FantasyTeam team = teamRepository.findById(Objects.requireNonNull(teamId))
+                .orElseThrow(() -> new RuntimeException("Tým nenalezen"));
+        return claimPlayer(team, playerId);
+    }
+
+    private Player claimPlayer(FantasyTeam team, Long playerId) {
         Player player = playerRepository.findById(Objects.requireNonNull(playerId))
                 .orElseThrow(() -> new RuntimeException("Hráč neexistuje"));
 
-        if (team.getPlayers().contains(player)) {
-            throw new RuntimeException("Tento hráč už ve tvém týmu je.");
+        try {
+            teamRepository.lockTeamNoWait(team.getId());
+        } catch (PessimisticLockingFailureException e) {
+            throw new RuntimeException("Tvůj tým právě zpracovává jiný draft, zkus to znovu.");
         }
 
-        validateTeamRoster(team, player.getPosition());
+        validateTeamRoster(teamRepository.findRosterPositions(team.getId()), player.getPosition());
 
-        team.getPlayers().add(player);
-        teamRepository.save(team);
+        if (!teamRepository.claimPlayer(team.getId(), player.getId())) {
+            boolean own = teamRepository.findOwnerTeamId(player.getId())
+                    .map(team.getId()::equals)
+                    .orElse(false);
+            throw new RuntimeException(own ? "Tento hráč už ve tvém týmu je." : "Hráče už draftoval jiný tým.");
+        }
+        rosterIndex.playerAdded(player.getId(), team.getId());
+        return player;
     }
 
-    private void validateTeamRoster(FantasyTeam team, String newPlayerPosition) {
-        long forwardsCount = team.getPlayers().stream().filter(
-                p -> "C".equals(p.getPosition()) || "LW".equals(p.getPosition()) || "RW".equals(p.getPosition()))
+    /**
+     * Checks whether a team has room for one more player of a position.
+     *
+     * @param teamId   the team
+     * @param position position of the candidate player
+     * @return true if the roster limit for the position is not reached
+     */
+    public boolean hasRosterSpace(Long teamId, String position) {
+        try {
+            validateTeamRoster(teamRepository.findRosterPositions(teamId), position);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void validateTeamRoster(List<String> positions, String newPlayerPosition) {
+        long forwardsCount = positions.stream()
+                .filter(p -> "C".equals(p) || "LW".equals(p) || "RW".equals(p))
                 .count();
-        long defensemenCount = team.getPlayers().stream().filter(p -> "D".equals(p.getPosition())).count();
-        long goaliesCount = team.getPlayers().stream().filter(p -> "G".equals(p.getPosition())).count();
+        long defensemenCount = positions.stream().filter("D"::equals).count();
+        long goaliesCount = positions.stream().filter("G"::equals).count();
 
         if ("C".equals(newPlayerPosition) || "LW".equals(newPlayerPosition) || "RW".equals(newPlayerPosition)) {
             if (forwardsCount >= MAX_FORWARDS) {
@@ -87,28 +149,21 @@ public class FantasyTeamService {
     public void removePlayerFromTeam(Long playerId, String username) {
         FantasyTeam team = getTeamByUsername(username)
                 .orElseThrow(() -> new RuntimeException("Tým nenalezen"));
-
-        boolean removed = team.getPlayers().removeIf(player -> player.getId().equals(playerId));
-
-        if (!removed) {
-            throw new RuntimeException("Hráč v týmu nebyl nalezen!");
-        }
-
-        teamRepository.save(team);
+        releasePlayer(team, playerId);
     }
 
     @Transactional
     public void removePlayerFromTeam(Long playerId, Long teamId) {
         FantasyTeam team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new RuntimeException("Tým nenalezen"));
+        releasePlayer(team, playerId);
+    }
 
-        boolean removed = team.getPlayers().removeIf(player -> player.getId().equals(playerId));
-
-        if (!removed) {
+    private void releasePlayer(FantasyTeam team, Long playerId) {
+        if (!teamRepository.releasePlayer(team.getId(), Objects.requireNonNull(playerId))) {
             throw new RuntimeException("Hráč v týmu nebyl nalezen!");
         }
-
-        teamRepository.save(team);
+        rosterIndex.playerRemoved(playerId, team.getId());
     }
 
     public List<FantasyTeam> getLeaderboard() {
@@ -117,14 +172,24 @@ public class FantasyTeamService {
 
     private final RosterLockingService rosterLockingService;
 
+    /**
+     * Puts a player into one lineup slot.
+     *
+     * @throws org.springframework.dao.ConcurrencyFailureException if another
+     *         request is changing the same lineup
+     */
     @Transactional
     public void saveLineupSpot(String username, Long playerId, String slotName) {
         FantasyTeam team = getTeamByUsername(username)
                 .orElseThrow(() -> new RuntimeException("Tým nenalezen"));
+        lockLineup(team);
 
         Player player = playerRepository.findById(Objects.requireNonNull(playerId))
                 .orElseThrow(() -> new RuntimeException("Hráč nenalezen"));
+        placePlayer(team, player, slotName);
+    }
 
+    private void placePlayer(FantasyTeam team, Player player, String slotName) {
         // Check if the player entering the slot is locked
         validatePlayerNotLocked(player);
 
@@ -143,9 +208,16 @@ public class FantasyTeamService {
         lineupRepository.save(spot);
     }
 
+    /**
+     * Empties one lineup slot.
+     *
+     * @throws org.springframework.dao.ConcurrencyFailureException if another
+     *         request is changing the same lineup
+     */
     @Transactional
     public void removePlayerFromSlot(String username, String slotName) {
         FantasyTeam team = getTeamByUsername(username).orElseThrow();
+        lockLineup(team);
 
         Optional<LineupSpot> spotOpt = lineupRepository.findByTeamAndSlotName(team, slotName);
         if (spotOpt.isPresent()) {
@@ -159,14 +231,21 @@ public class FantasyTeamService {
         return lineupRepository.findByTeam(team);
     }
 
+    /**
+     * Moves a player from one lineup slot to another.
+     *
+     * @throws org.springframework.dao.ConcurrencyFailureException if another
+     *         request is changing the same lineup
+     */
     @Transactional
     public void movePlayer(String username, Long playerId, String newSlotName, String oldSlotName) {
+        FantasyTeam team = getTeamByUsername(username).orElseThrow();
+        lockLineup(team);
+
         // Find the player being moved to ensure they aren't locked
         Player player = playerRepository.findById(playerId).orElseThrow();
         validatePlayerNotLocked(player);
 
-        FantasyTeam team = getTeamByUsername(username).orElseThrow();
-
         // Ensure the spot we are leaving doesn't contain a DIFFERENT locked player
         // (should be the same player, but good to check)
         // Actually, logic is: We take player from OldSlot.
@@ -174,127 +253,111 @@ public class FantasyTeamService {
         // else?? No, movePlayer implies moving THAT player).
 
         lineupRepository.deleteByTeamAndSlotName(team, oldSlotName);
-        saveLineupSpot(username, playerId, newSlotName);
+        placePlayer(team, player, newSlotName);
     }
 
-    private void validatePlayerNotLocked(Player player) {
-        if (rosterLockingService.getLockedTeams().contains(player.getTeamName())) {
-            throw new RuntimeException(
-                    "Hráč " + player.getLastName() + " již hraje (nebo dohrál) a nelze s ním hýbat!");
+    /**
+     * Applies several lineup slot changes at once, e.g. a whole rearranged
+     * lineup. All changes are validated together against one snapshot of
+     * the locked NHL teams and one load of the roster and lineup, and either
+     * all of them are written (one DELETE and one INSERT) or none.
+     *
+     * A slot listed more than once takes its last change.
+     *
+     * @param username owner of the team
+     * @param changes  new occupants of the changed slots
+     * @throws RuntimeException if a moved player is locked, not on the
+     *                          roster, or would end up in two slots
+     * @throws org.springframework.dao.ConcurrencyFailureException if another
+     *         request is changing the same lineup
+     */
+    @Transactional
+    public void applyLineupChanges(String username, List<LineupChange> changes) {
+        FantasyTeam team = getTeamByUsername(username)
+                .orElseThrow(() -> new RuntimeException("Tým nenalezen"));
+
+        Map<String, Long> requested = new LinkedHashMap<>();
+        for (LineupChange change : changes) {
+            requested.put(Objects.requireNonNull(change.slotName(), "slotName"), change.playerId());
+        }
+        if (requested.isEmpty()) {
+            return;
         }
-    }
 
-    private final com.fantasyhockey.fantasy_league.repository.PlayerStatsRepository playerStatsRepository;
+        lockLineup(team);
 
-    @Transactional
-    public void updateStandings() {
-        List<FantasyTeam> teams = teamRepository.findAll();
-        // Reset stats
-        for (FantasyTeam team : teams) {
-            team.setWins(0);
-            team.setLosses(0);
-            team.setOtWins(0);
-            team.setOtLosses(0);
-            team.setLeaguePoints(0);
+        Set<String> locked = rosterLockingService.getLockedTeams();
+        Map<Long, Player> roster = new HashMap<>();
+        team.getPlayers().forEach(p -> roster.put(p.getId(), p));
+
+        Map<String, Player> lineup = new HashMap<>();
+        for (LineupSpot spot : lineupRepository.findByTeam(team)) {
+            if (spot.getPlayer() != null) {
+                lineup.put(spot.getSlotName(), spot.getPlayer());
+            }
         }
 
-        List<com.fantasyhockey.fantasy_league.model.Matchup> allMatchups = matchupRepository.findAll();
-        java.time.LocalDate today = java.time.LocalDate.now();
-
-        for (com.fantasyhockey.fantasy_league.model.Matchup m : allMatchups) {
-            boolean isCompleted = m.getGameWeek().isCompleted();
-            boolean isPast = m.getGameWeek().getEndDate().isBefore(today);
-
-            if (isCompleted || isPast) {
-                double homeScore;
-                double awayScore;
-
-                if (isCompleted) {
-                    // TRUST THE DB for completed weeks
-                    homeScore = m.getHomeScore();
-                    awayScore = m.getAwayScore();
-                } else {
-                    // If not completed but past, recalculate to be safe.
-                    homeScore = calculateTeamScoreForPeriod(m.getHomeTeam(), m.getGameWeek().getStartDate(),
-                            m.getGameWeek().getEndDate());
-                    awayScore = calculateTeamScoreForPeriod(m.getAwayTeam(), m.getGameWeek().getStartDate(),
-                            m.getGameWeek().getEndDate());
-
-                    m.setHomeScore(homeScore);
-                    m.setAwayScore(awayScore);
-                    matchupRepository.save(m);
-                }
+        Map<String, Long> result = new HashMap<>();
+        lineup.forEach((slot, player) -> result.put(slot, player.getId()));
 
-                if (homeScore > awayScore) {
-                    // Home Win
-                    m.getHomeTeam().setWins(m.getHomeTeam().getWins() + 1);
-                    m.getHomeTeam().setLeaguePoints(m.getHomeTeam().getLeaguePoints() + 3);
-
-                    m.getAwayTeam().setLosses(m.getAwayTeam().getLosses() + 1);
-                    // 0 points for loss
-                } else if (awayScore > homeScore) {
-                    // Away Win
-                    m.getAwayTeam().setWins(m.getAwayTeam().getWins() + 1);
-                    m.getAwayTeam().setLeaguePoints(m.getAwayTeam().getLeaguePoints() + 3);
-
-                    m.getHomeTeam().setLosses(m.getHomeTeam().getLosses() + 1);
-                    // 0 points for loss
-                } else {
-                    // TIE -> Overtime Logic
-                    // 1. Best player points
-                    double homeBest = getBestPlayerPoints(m.getHomeTeam(), m.getGameWeek().getStartDate(),
-                            m.getGameWeek().getEndDate());
-                    double awayBest = getBestPlayerPoints(m.getAwayTeam(), m.getGameWeek().getStartDate(),
-                            m.getGameWeek().getEndDate());
-
-                    if (awayBest > homeBest) {
-                        // Away wins OT
-                        m.getAwayTeam().setOtWins(m.getAwayTeam().getOtWins() + 1);
-                        m.getAwayTeam().setLeaguePoints(m.getAwayTeam().getLeaguePoints() + 2);
-
-                        m.getHomeTeam().setOtLosses(m.getHomeTeam().getOtLosses() + 1);
-                        m.getHomeTeam().setLeaguePoints(m.getHomeTeam().getLeaguePoints() + 1);
-                    } else {
-                        // Home wins OT (Better best player OR Tie in best player -> Home advantage)
-                        m.getHomeTeam().setOtWins(m.getHomeTeam().getOtWins() + 1);
-                        m.getHomeTeam().setLeaguePoints(m.getHomeTeam().getLeaguePoints() + 2);
-
-                        m.getAwayTeam().setOtLosses(m.getAwayTeam().getOtLosses() + 1);
-                        m.getAwayTeam().setLeaguePoints(m.getAwayTeam().getLeaguePoints() + 1);
-                    }
+        for (Map.Entry<String, Long> entry : requested.entrySet()) {
+            Player current = lineup.get(entry.getKey());
+            Long newPlayerId = entry.getValue();
+            if (current != null && current.getId().equals(newPlayerId)) {
+                continue;
+            }
+            if (current != null) {
+                validatePlayerNotLocked(current, locked);
+            }
+            if (newPlayerId != null) {
+                Player player = roster.get(newPlayerId);
+                if (player == null) {
+                    throw new RuntimeException("Hráč není na tvé soupisce.");
                 }
+                validatePlayerNotLocked(player, locked);
+                result.put(entry.getKey(), newPlayerId);
+            } else {
+                result.remove(entry.getKey());
+            }
+        }
+
+        // A placed player must not stay in (or also be put into) another slot
+        Map<Long, Integer> placements = new HashMap<>();
+        result.values().forEach(id -> placements.merge(id, 1, Integer::sum));
+        for (Long playerId : requested.values()) {
+            if (playerId != null && placements.get(playerId) > 1) {
+                throw new RuntimeException("Hráč " + roster.get(playerId).getLastName()
+                        + " může být v sestavě jen jednou!");
             }
         }
 
-        teamRepository.saveAll(teams);
+        String[] slotNames = requested.keySet().toArray(new String[0]);
+        Long[] playerIds = requested.values().toArray(new Long[0]);
+        lineupRepository.replaceSlots(team.getId(), slotNames, playerIds);
     }
 
-    private double calculateTeamScoreForPeriod(FantasyTeam team, java.time.LocalDate start, java.time.LocalDate end) {
-        if (team == null || team.getPlayers().isEmpty())
-            return 0.0;
-
-        return team.getPlayers().stream()
-                .mapToDouble(player -> {
-                    return playerStatsRepository.findByPlayerIdAndDateBetween(player.getId(), start, end)
-                            .stream()
-                            .mapToDouble(stats -> stats.getFantasyPoints())
-                            .sum();
-                })
-                .sum();
+    /**
+     * Locks the team's row (NOWAIT) for the rest of the transaction. Every
+     * lineup change takes it first, so a single-slot edit and a batch of the
+     * same team never interleave: the later one fails fast as a conflict the
+     * client retries. The slots themselves are rewritten with plain SQL, so
+     * the team row is what serializes them.
+     */
+    private void lockLineup(FantasyTeam team) {
+        teamRepository.lockTeamNoWait(team.getId());
     }
 
-    private double getBestPlayerPoints(FantasyTeam team, java.time.LocalDate start, java.time.LocalDate end) {
-        if (team == null || team.getPlayers().isEmpty())
-            return 0.0;
-
-        return team.getPlayers().stream()
-                .mapToDouble(player -> {
-                    return playerStatsRepository.findByPlayerIdAndDateBetween(player.getId(), start, end)
-                            .stream()
-                            .mapToDouble(stats -> stats.getFantasyPoints())
-                            .sum();
-                })
-                .max()
-                .orElse(0.0);
+    private void validatePlayerNotLocked(Player player, Set<String> lockedTeams) {
+        if (lockedTeams.contains(player.getTeamName())) {
+            throw new RuntimeException(
+                    "Hráč " + player.getLastName() + " již hraje (nebo dohrál) a nelze s ním hýbat!");
+        }
+    }
+
+    private void validatePlayerNotLocked(Player player) {
+        if (rosterLockingService.isLocked(player.getTeamName())) {
+            throw new RuntimeException(
+                    "Hráč " + player.getLastName() + " již hraje (nebo dohrál) a nelze s ním hýbat!");
+        }
     }
-}
\ No newline at end of file
+}
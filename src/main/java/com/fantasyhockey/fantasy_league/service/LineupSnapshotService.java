@@ -0,0 +1,156 @@
+package com.fantasyhockey.fantasy_league.service;
+
+import com.fantasyhockey.fantasy_league.repository.FantasyTeamRepository;
+import com.fantasyhockey.fantasy_league.repository.LineupSpotRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Freezes each team's lineup per day into the lineup_snapshot table, so only
+ * players the user actually put in the lineup score for the team.
+ *
+ * A snapshot is a bitset of the active player IDs, taken whenever another
+ * NHL team gets locked (a game started). It is keyed by the NHL schedule date
+ * of the locking games, the same date stats are stored under, so late games
+ * starting after local midnight still land on their schedule day. Locked players can not be moved any
+ * more, so every later snapshot of the day only differs in players whose
+ * games have not started yet, and the last one holds the lineup every player
+ * actually played in.
+ *
+ * Snapshots of the last days are cached for live scoring.
+ */
+@Service
+@RequiredArgsConstructor
+public class LineupSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LineupSnapshotService.class);
+
+    private final LineupSpotRepository lineupRepository;
+    private final FantasyTeamRepository teamRepository;
+    private final RosterLockingService rosterLockingService;
+
+    /**
+     * Snapshots by day: team ID -> active player IDs. An empty map means no
+     * snapshot was taken that day.
+     */
+    private final Map<LocalDate, Map<Long, BitSet>> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Locked teams at the last snapshot and its day.
+     */
+    private volatile LocalDate frozenDate;
+    private volatile Set<String> frozenLocks = Set.of();
+
+    /**
+     * Takes a snapshot of the current schedule day when the set of locked NHL
+     * teams has changed since the last one. Checked every {@code app.lineup.snapshot-check-ms}
+     * milliseconds, so a snapshot lags a puck drop by at most that interval.
+     */
+    @Scheduled(fixedDelayString = "${app.lineup.snapshot-check-ms:30000}")
+    public void freezeOnLockTransition() {
+        RosterLockingService.Locks locks = rosterLockingService.getLocks();
+        if (locks.teams().isEmpty() || (locks.date().equals(frozenDate) && locks.teams().equals(frozenLocks))) {
+            return;
+        }
+        freeze(locks.date());
+        frozenDate = locks.date();
+        frozenLocks = locks.teams();
+    }
+
+    /**
+     * Stores the current lineups of all teams as the snapshot of a day.
+     * Teams with an empty lineup get an empty snapshot and score nothing.
+     *
+     * @param date the day the lineups apply to
+     */
+    @Transactional
+    public void freeze(LocalDate date) {
+        Map<Long, BitSet> active = new HashMap<>();
+        for (Long teamId : teamRepository.findAllIds()) {
+            active.put(teamId, new BitSet());
+        }
+        for (Object[] pair : lineupRepository.findActiveLineupPairs()) {
+            active.computeIfAbsent((Long) pair[0], id -> new BitSet()).set(Math.toIntExact((Long) pair[1]));
+        }
+
+        Map<Long, byte[]> bitsets = new HashMap<>();
+        active.forEach((teamId, players) -> bitsets.put(teamId, players.toByteArray()));
+        lineupRepository.saveSnapshots(date, bitsets);
+
+        snapshots.put(date, active);
+        snapshots.keySet().removeIf(day -> day.isBefore(date.minusDays(2)));
+        logger.info("📸 Sestavy zmrazeny pro {} ({} týmů)", date, active.size());
+    }
+
+    /**
+     * Stores the current roster as the snapshot of a day for every team that
+     * has no snapshot of that day, so a day's points are credited and later
+     * rebuilt against the same players. Must run inside the transaction that
+     * credits the points.
+     *
+     * @param date the day points are credited for
+     */
+    public void freezeMissingRosters(LocalDate date) {
+        if (lineupRepository.saveMissingRosterSnapshots(date) > 0) {
+            snapshots.remove(date);
+        }
+    }
+
+    /**
+     * Stores the current roster as the snapshot of every day with recorded
+     * stats that a team has no snapshot of (stats recorded before snapshots
+     * existed). Runs before rebuilds, which only count snapshots.
+     */
+    @Transactional
+    public void freezeMissingRosters() {
+        int stored = lineupRepository.saveMissingRosterSnapshots();
+        if (stored > 0) {
+            snapshots.clear();
+            logger.info("📸 Doplněno {} snímků soupisek pro dny bez snímku", stored);
+        }
+    }
+
+    /**
+     * Narrows the teams rostering a player to those that had the player in
+     * their lineup on a day. Teams without a snapshot for that day keep
+     * counting their whole roster, which is what the stored scores freeze
+     * for them once the day is credited.
+     *
+     * @param date     the day
+     * @param playerId the player
+     * @param teamIds  teams rostering the player
+     * @return team IDs the player scores for on that day
+     */
+    public long[] activeTeams(LocalDate date, long playerId, long[] teamIds) {
+        Map<Long, BitSet> day = snapshots.computeIfAbsent(date, this::load);
+        if (day.isEmpty() || teamIds.length == 0) {
+            return teamIds;
+        }
+        return Arrays.stream(teamIds)
+                .filter(teamId -> {
+                    BitSet players = day.get(teamId);
+                    return players == null || players.get(Math.toIntExact(playerId));
+                })
+                .toArray();
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private Map<Long, BitSet> load(LocalDate date) {
+        Map<Long, BitSet> day = new HashMap<>();
+        lineupRepository.findSnapshots(date).forEach((teamId, bits) -> day.put(teamId, BitSet.valueOf(bits)));
+        return day;
+    }
+}
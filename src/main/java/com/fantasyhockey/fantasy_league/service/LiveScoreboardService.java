@@ -0,0 +1,176 @@
+package com.fantasyhockey.fantasy_league.service;
+
+import com.fantasyhockey.fantasy_league.model.GameWeek;
+import com.fantasyhockey.fantasy_league.model.Matchup;
+import com.fantasyhockey.fantasy_league.repository.MatchupRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Pushes live scoreboard updates of the current week to connected /live
+ * viewers over Server-Sent Events.
+ *
+ * A single background poller refreshes game states and matchup scores for
+ * everyone and sends only what changed since the previous poll:
+ * - "scores": matchup ID -> [home score, away score] in hundredths
+ * - "statuses": NHL team abbreviation -> game state (drives the active /
+ * inactive look of player cards)
+ * New subscribers get the full current state as their first events. The
+ * poller does nothing while nobody is connected.
+ */
+@Service
+@RequiredArgsConstructor
+public class LiveScoreboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveScoreboardService.class);
+
+    private final ScheduleService scheduleService;
+    private final MatchupRepository matchupRepository;
+    private final TeamWeekScoreService teamWeekScoreService;
+    private final RosterLockingService rosterLockingService;
+    private final LiveScoringService liveScoringService;
+
+    @Value("${app.live.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    /**
+     * Last state sent to clients; guarded by this service's monitor. Nothing
+     * is sent while holding it: sends to one emitter synchronize on that
+     * emitter, so its initial full state always goes out before any delta.
+     */
+    private Map<Long, long[]> lastScores = Map.of();
+    private Map<String, String> lastStatuses = Map.of();
+
+    /**
+     * Registers a new viewer and sends it the current full state.
+     *
+     * @return emitter streaming updates to the viewer
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+
+        synchronized (emitter) {
+            Map<Long, long[]> scores;
+            Map<String, String> statuses;
+            synchronized (this) {
+                if (emitters.isEmpty()) {
+                    // Nobody was watching, so the cached state may be stale
+                    lastScores = loadScores();
+                    lastStatuses = rosterLockingService.getTeamGameStatuses();
+                }
+                scores = lastScores;
+                statuses = lastStatuses;
+                emitters.add(emitter);
+            }
+            try {
+                emitter.send(SseEmitter.event().name("scores").data(scores));
+                emitter.send(SseEmitter.event().name("statuses").data(statuses));
+            } catch (IOException e) {
+                emitters.remove(emitter);
+                emitter.completeWithError(e);
+            }
+        }
+        return emitter;
+    }
+
+    /**
+     * Polls game states and scores and pushes the differences to all
+     * viewers. Runs every {@code app.live.poll-ms} milliseconds; game states
+     * come from RosterLockingService's own refresh.
+     */
+    @Scheduled(fixedDelayString = "${app.live.poll-ms:15000}")
+    public void poll() {
+        if (emitters.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> statuses = rosterLockingService.getTeamGameStatuses();
+        Map<Long, long[]> scores = loadScores();
+
+        List<SseEmitter> recipients;
+        Map<String, String> statusDelta = new HashMap<>();
+        Map<Long, long[]> scoreDelta = new HashMap<>();
+        synchronized (this) {
+            statuses.forEach((team, state) -> {
+                if (!Objects.equals(lastStatuses.get(team), state)) {
+                    statusDelta.put(team, state);
+                }
+            });
+
+            scores.forEach((matchupId, score) -> {
+                long[] previous = lastScores.get(matchupId);
+                if (previous == null || previous[0] != score[0] || previous[1] != score[1]) {
+                    scoreDelta.put(matchupId, score);
+                }
+            });
+
+            lastStatuses = statuses;
+            lastScores = scores;
+            recipients = List.copyOf(emitters);
+        }
+
+        if (!scoreDelta.isEmpty()) {
+            broadcast(recipients, "scores", scoreDelta);
+        }
+        if (!statusDelta.isEmpty()) {
+            broadcast(recipients, "statuses", statusDelta);
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * Current week's matchup scores: the weekly team score aggregate plus
+     * provisional points of games in progress.
+     */
+    private Map<Long, long[]> loadScores() {
+        Map<Long, long[]> scores = new HashMap<>();
+        try {
+            GameWeek week = scheduleService.getCurrentWeek();
+            Map<Long, Long> teamScores = liveScoringService.getTeamPoints(week.getStartDate(), week.getEndDate(),
+                    () -> teamWeekScoreService.getScoresForWeek(week));
+            for (Matchup m : matchupRepository.findByGameWeek(week)) {
+                scores.put(m.getId(), new long[] {
+                        teamScore(m.getHomeTeam() != null ? m.getHomeTeam().getId() : null, teamScores),
+                        teamScore(m.getAwayTeam() != null ? m.getAwayTeam().getId() : null, teamScores) });
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Live skóre nelze načíst: {}", e.getMessage());
+        }
+        return scores;
+    }
+
+    private long teamScore(Long teamId, Map<Long, Long> teamScores) {
+        return teamId == null ? 0L : teamScores.getOrDefault(teamId, 0L);
+    }
+
+    private void broadcast(List<SseEmitter> recipients, String eventName, Object data) {
+        for (SseEmitter emitter : recipients) {
+            synchronized (emitter) {
+                try {
+                    emitter.send(SseEmitter.event().name(eventName).data(data));
+                } catch (IOException | IllegalStateException e) {
+                    // Client went away; drop it
+                    emitters.remove(emitter);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.fantasyhockey.fantasy_league.service;
+
+import com.fantasyhockey.fantasy_league.client.NhlApiClient;
+import com.fantasyhockey.fantasy_league.dto.GameBoxscore;
+import com.fantasyhockey.fantasy_league.dto.NhlScheduleResponse;
+import com.fantasyhockey.fantasy_league.dto.ScoredGame;
+import com.fantasyhockey.fantasy_league.service.StatsIngestionPipeline.GameRef;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Provisional fantasy scoring of games in progress.
+ *
+ * While games are LIVE, CRIT or FINAL their boxscores are polled on a short
+ * interval and scored, and the points are kept in an in-memory overlay keyed
+ * by game and player. A FINAL boxscore is still provisional (stat
+ * corrections follow), so nothing is written to the database until the game
+ * is OFF: its official boxscore is then scored and recorded like any
+ * imported game and dropped from the overlay. Imports skip games that are
+ * not OFF yet (see {@link StatsIngestionPipeline}), so stored rows and the
+ * overlay never hold the same game, and the later daily import of it is
+ * skipped by PointsService's duplicate check.
+ *
+ * Fetching and scoring happen without any lock. Only recording a finished
+ * game and dropping it from the overlay happen under a write lock; readers
+ * combine stored and provisional points under the read lock, so they never
+ * see a game in both or in neither.
+ */
+@Service
+@RequiredArgsConstructor
+public class LiveScoringService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveScoringService.class);
+
+    private static final Set<String> PROVISIONAL_STATES = Set.of("LIVE", "CRIT", "FINAL");
+    private static final String OFFICIAL_STATE = "OFF";
+
+    private final NhlApiClient nhlApiClient;
+    private final PointsService pointsService;
+    private final PlayerIdResolver playerIdResolver;
+    private final RosterIndex rosterIndex;
+    private final LineupSnapshotService lineupSnapshotService;
+    private final RequestRateLimiter rateLimiter;
+
+    @Value("${app.live.scoring-enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Provisional points of one game in progress.
+     *
+     * @param date           schedule date of the game
+     * @param pointsByPlayer fantasy points keyed by our player ID
+     */
+    private record LiveGame(LocalDate date, Map<Long, Long> pointsByPlayer) {
+    }
+
+    /**
+     * NHL game ID -> provisional points. Each value is replaced as a whole.
+     */
+    private final Map<Long, LiveGame> overlay = new ConcurrentHashMap<>();
+
+    private final ReadWriteLock reconcileLock = new ReentrantReadWriteLock();
+
+    /**
+     * Polls boxscores of games in progress and reconciles finished ones.
+     * Runs every {@code app.live.scoring-poll-ms} milliseconds.
+     */
+    @Scheduled(fixedDelayString = "${app.live.scoring-poll-ms:60000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+
+        Map<Long, GameRef> inProgress = new HashMap<>();
+        List<GameRef> finished = new ArrayList<>();
+        if (!collectGames(inProgress, finished)) {
+            return;
+        }
+
+        for (GameRef game : inProgress.values()) {
+            try {
+                rateLimiter.acquire();
+                GameBoxscore boxscore = nhlApiClient.getBoxscore(game.gameId());
+                if (boxscore != null) {
+                    overlay.put(game.gameId(), score(boxscore, game.date()));
+                }
+            } catch (Exception e) {
+                logger.warn("Live boxscore zápasu {} nelze načíst: {}", game.gameId(), e.getMessage());
+            }
+        }
+
+        for (GameRef game : finished) {
+            try {
+                reconcile(game);
+            } catch (Exception e) {
+                logger.warn("Live: dohraný zápas {} nelze uložit: {}", game.gameId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns stored team points with the provisional points of games in
+     * progress added, for games played within the given dates. Like the
+     * stored scores, only players in the team's lineup snapshot of the game
+     * day count.
+     *
+     * @param start        first day (inclusive)
+     * @param end          last day (inclusive)
+     * @param storedPoints reads the stored points in hundredths keyed by team
+     *                     ID; called under the read lock
+     * @return points in hundredths keyed by team ID
+     */
+    public Map<Long, Long> getTeamPoints(LocalDate start, LocalDate end, Supplier<Map<Long, Long>> storedPoints) {
+        reconcileLock.readLock().lock();
+        try {
+            Map<Long, Long> pointsByTeam = new HashMap<>(storedPoints.get());
+            addProvisionalPoints(pointsByTeam, start, end);
+            return pointsByTeam;
+        } finally {
+            reconcileLock.readLock().unlock();
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * Records an official game and drops it from the overlay. The boxscore
+     * is fetched and scored before the write lock is taken, so readers only
+     * wait for the database transaction. A boxscore that is not OFF yet
+     * stays in the overlay until the next poll.
+     */
+    private void reconcile(GameRef game) {
+        rateLimiter.acquire();
+        GameBoxscore boxscore = nhlApiClient.getBoxscore(game.gameId());
+        if (boxscore == null || !boxscore.isOfficial()) {
+            return;
+        }
+        ScoredGame scored = pointsService.scoreGame(boxscore, game.date());
+
+        reconcileLock.writeLock().lock();
+        try {
+            pointsService.recordScoredGames(List.of(scored));
+            overlay.remove(game.gameId());
+        } finally {
+            reconcileLock.writeLock().unlock();
+        }
+        logger.info("🏒 Live: dohraný zápas {} uložen", game.gameId());
+    }
+
+    private void addProvisionalPoints(Map<Long, Long> pointsByTeam, LocalDate start, LocalDate end) {
+        for (LiveGame game : overlay.values()) {
+            if (game.date().isBefore(start) || game.date().isAfter(end)) {
+                continue;
+            }
+            game.pointsByPlayer().forEach((playerId, points) -> {
+                long[] teamIds = lineupSnapshotService.activeTeams(game.date(), playerId,
+                        rosterIndex.teamsOf(playerId));
+                for (long teamId : teamIds) {
+                    pointsByTeam.merge(teamId, points, Long::sum);
+                }
+            });
+        }
+    }
+
+    /**
+     * Sorts games of the last two schedule days into those still provisional
+     * and those that became official while still held in the overlay.
+     * Yesterday is included because late games are still running after local
+     * midnight.
+     *
+     * @return false if the schedule is unavailable
+     */
+    private boolean collectGames(Map<Long, GameRef> inProgress, List<GameRef> finished) {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        NhlScheduleResponse schedule;
+        try {
+            schedule = nhlApiClient.getSchedule(yesterday);
+        } catch (Exception e) {
+            logger.warn("Live: rozvrh nelze načíst: {}", e.getMessage());
+            return false;
+        }
+        if (schedule == null || schedule.getGameWeek() == null) {
+            return false;
+        }
+
+        Set<String> days = Set.of(yesterday.toString(), yesterday.plusDays(1).toString());
+        for (NhlScheduleResponse.GameWeekDto day : schedule.getGameWeek()) {
+            if (!days.contains(day.getDate()) || day.getGames() == null)
+                continue;
+
+            for (NhlScheduleResponse.GameDto game : day.getGames()) {
+                GameRef ref = new GameRef(game.getId(), LocalDate.parse(day.getDate()));
+                if (PROVISIONAL_STATES.contains(game.getGameState())) {
+                    inProgress.put(game.getId(), ref);
+                } else if (OFFICIAL_STATE.equals(game.getGameState()) && overlay.containsKey(game.getId())) {
+                    finished.add(ref);
+                }
+            }
+        }
+        return true;
+    }
+
+    private LiveGame score(GameBoxscore boxscore, LocalDate date) {
+        ScoredGame scored = pointsService.scoreGame(boxscore, date);
+        Map<Long, Long> pointsByPlayer = new HashMap<>();
+        scored.skaters().forEach(s -> addPoints(pointsByPlayer, s.line().playerId(), s.fantasyPoints()));
+        scored.goalies().forEach(g -> addPoints(pointsByPlayer, g.line().playerId(), g.fantasyPoints()));
+        return new LiveGame(date, Map.copyOf(pointsByPlayer));
+    }
+
+    private void addPoints(Map<Long, Long> pointsByPlayer, long nhlPlayerId, long points) {
+        long playerId = playerIdResolver.resolve(nhlPlayerId);
+        if (playerId != PlayerIdResolver.UNKNOWN) {
+            pointsByPlayer.merge(playerId, points, Long::sum);
+        }
+    }
+}
@@ -8,9 +8,11 @@ import com.fantasyhockey.fantasy_league.repository.MatchupRepository;
 import com.fantasyhockey.fantasy_league.repository.PlayerStatsRepository;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,12 +21,17 @@ public class MatchupService {
     private final MatchupRepository matchupRepository;
     private final ScheduleService scheduleService;
     private final PlayerStatsRepository playerStatsRepository;
+    private final TeamWeekScoreService teamWeekScoreService;
+    private final PlayerSeasonTotalsService seasonTotalsService;
 
     public MatchupService(MatchupRepository matchupRepository, ScheduleService scheduleService,
-            PlayerStatsRepository playerStatsRepository) {
+            PlayerStatsRepository playerStatsRepository, TeamWeekScoreService teamWeekScoreService,
+            PlayerSeasonTotalsService seasonTotalsService) {
         this.matchupRepository = matchupRepository;
         this.scheduleService = scheduleService;
         this.playerStatsRepository = playerStatsRepository;
+        this.teamWeekScoreService = teamWeekScoreService;
+        this.seasonTotalsService = seasonTotalsService;
     }
 
     public List<Matchup> getCurrentMatchups() {
@@ -42,46 +49,49 @@ public class MatchupService {
         updateScoresForWeek(scheduleService.getCurrentWeek());
     }
 
+    /**
+     * Copies the pre-aggregated weekly team scores onto the week's matchups.
+     * Reads all team scores with one query and writes them with one
+     * set-based UPDATE; only matchups whose score changed are touched.
+     *
+     * @param week the game week to update
+     */
     public void updateScoresForWeek(GameWeek week) {
         List<Matchup> matchups = matchupRepository.findByGameWeek(week);
+        Map<Long, Long> scores = teamWeekScoreService.getScoresForWeek(week);
+
+        Long[] ids = new Long[matchups.size()];
+        Long[] homeScores = new Long[matchups.size()];
+        Long[] awayScores = new Long[matchups.size()];
+        for (int i = 0; i < matchups.size(); i++) {
+            Matchup matchup = matchups.get(i);
+            ids[i] = matchup.getId();
+            homeScores[i] = scoreOf(matchup.getHomeTeam(), scores);
+            awayScores[i] = scoreOf(matchup.getAwayTeam(), scores);
+        }
+        matchupRepository.updateScores(ids, homeScores, awayScores);
+    }
 
+    /**
+     * Sets the weekly team scores on managed matchup entities, for callers
+     * that save the matchups themselves (the save is then version checked).
+     *
+     * @param matchups matchups to update, possibly from several weeks
+     */
+    public void copyScores(Collection<Matchup> matchups) {
+        Map<GameWeek, Map<Long, Long>> scoresByWeek = new HashMap<>();
         for (Matchup matchup : matchups) {
-            double homeScore = calculateTeamScoreForWeek(matchup.getHomeTeam(), week);
-            double awayScore = calculateTeamScoreForWeek(matchup.getAwayTeam(), week);
-
-            matchup.setHomeScore(homeScore);
-            matchup.setAwayScore(awayScore);
-
-            matchupRepository.save(matchup);
+            Map<Long, Long> scores = scoresByWeek.computeIfAbsent(matchup.getGameWeek(),
+                    teamWeekScoreService::getScoresForWeek);
+            matchup.setHomeScore(scoreOf(matchup.getHomeTeam(), scores));
+            matchup.setAwayScore(scoreOf(matchup.getAwayTeam(), scores));
         }
     }
 
-    private double calculateTeamScoreForWeek(FantasyTeam team, GameWeek week) {
+    private long scoreOf(FantasyTeam team, Map<Long, Long> scores) {
         if (team == null)
-            return 0.0;
-
-        // Sum points of all players in the team for games played within the week's date
-        // range
-        // Note: This assumes players stay in the team. If transfers are allowed
-        // mid-week, logic needs to be more complex (tracking roster history).
-        // For now, we sum points of current roster for the period.
-
-        return team.getPlayers().stream()
-                .mapToDouble(player -> getPlayerPointsForPeriod(player, week.getStartDate(), week.getEndDate()))
-                .sum();
-    }
-
-    private double getPlayerPointsForPeriod(Player player, LocalDate start, LocalDate end) {
-        // We need a method in PlayerStatsRepository or logic here to sum points
-        // Assuming Player has a list of stats or we query the repo
-        // Using repository is better for performance if optimized, but here we might
-        // need to iterate
-        // Let's assume we use the repository to find stats by player and date range
-
-        return playerStatsRepository.findByPlayerIdAndDateBetween(player.getId(), start, end)
-                .stream()
-                .mapToDouble(stats -> stats.getFantasyPoints())
-                .sum();
+            return 0L;
+        return scores.getOrDefault(team.getId(), 0L);
     }
 
     public List<com.fantasyhockey.fantasy_league.dto.MatchupDetailDto> getMatchupDetails(GameWeek week) {
@@ -111,15 +121,15 @@ public class MatchupService {
 
             // 3. Win Probability
             // Simple model: Share of total season points
-            double homeTotal = home.getTotalFantasyPoints();
-            double awayTotal = away.getTotalFantasyPoints();
-            double total = homeTotal + awayTotal;
+            long homeTotal = home.getTotalFantasyPoints();
+            long awayTotal = away.getTotalFantasyPoints();
+            long total = homeTotal + awayTotal;
 
             int homeProb = 50;
             int awayProb = 50;
 
             if (total > 0) {
-                homeProb = (int) Math.round((homeTotal / total) * 100);
+                homeProb = (int) ((homeTotal * 100 + total / 2) / total);
                 awayProb = 100 - homeProb;
             }
 
@@ -192,8 +202,8 @@ public class MatchupService {
         }
 
         boolean isHome = m.getHomeTeam().getId().equals(team.getId());
-        double myScore = isHome ? m.getHomeScore() : m.getAwayScore();
-        double oppScore = isHome ? m.getAwayScore() : m.getHomeScore();
+        long myScore = isHome ? m.getHomeScore() : m.getAwayScore();
+        long oppScore = isHome ? m.getAwayScore() : m.getHomeScore();
 
         if (myScore > oppScore)
             return "V";
@@ -211,8 +221,9 @@ public class MatchupService {
     private Player getTopSeasonPlayer(FantasyTeam team) {
         if (team == null || team.getPlayers().isEmpty())
             return null;
+        seasonTotalsService.attachTotals(team.getPlayers());
         return team.getPlayers().stream()
-                .max(Comparator.comparingDouble(Player::getSeasonFantasyPoints))
+                .max(Comparator.comparingLong(Player::getSeasonFantasyPoints))
                 .orElse(null);
     }
 
@@ -242,7 +253,7 @@ public class MatchupService {
                 .limit(limit)
                 .map(obj -> {
                     Player player = (Player) obj[0];
-                    double points = obj[1] instanceof Number ? ((Number) obj[1]).doubleValue() : 0.0;
+                    long points = obj[1] instanceof Number ? ((Number) obj[1]).longValue() : 0L;
                     int goals = obj[2] instanceof Number ? ((Number) obj[2]).intValue() : 0;
                     int assists = obj[3] instanceof Number ? ((Number) obj[3]).intValue() : 0;
                     int plusMinus = obj[4] instanceof Number ? ((Number) obj[4]).intValue() : 0;
@@ -1,21 +1,29 @@
 package com.fantasyhockey.fantasy_league.service;
 
-import com.fantasyhockey.fantasy_league.dto.NhlBoxscoreResponse;
+import com.fantasyhockey.fantasy_league.client.NhlApiClient;
 import com.fantasyhockey.fantasy_league.dto.NhlPlayerDto;
 import com.fantasyhockey.fantasy_league.dto.NhlRosterResponse;
 import com.fantasyhockey.fantasy_league.dto.NhlScheduleResponse;
 import com.fantasyhockey.fantasy_league.model.Player;
 import com.fantasyhockey.fantasy_league.repository.PlayerRepository;
+import com.fantasyhockey.fantasy_league.service.StatsIngestionPipeline.GameRef;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -29,38 +37,39 @@ public class NhlApiService {
             "VGK", "WSH", "WPG"
     };
 
-    private static final int DELAY_BETWEEN_TEAMS_MS = 200;
-    private static final int DELAY_BETWEEN_DAYS_MS = 1000;
-    private static final int DELAY_BETWEEN_GAMES_MS = 300;
     private static final LocalDate SEASON_START_DATE = LocalDate.of(2025, 10, 7);
 
     private final PlayerRepository playerRepository;
     private final PointsService pointsService;
     private final EspnScraperService espnScraperService;
-    private final RestTemplate restTemplate;
+    private final NhlApiClient nhlApiClient;
+    private final RequestRateLimiter rateLimiter;
+    private final StatsIngestionPipeline ingestionPipeline;
+    private final PlayerIdResolver playerIdResolver;
+
+    /**
+     * Maximum number of schedule/boxscore requests in flight during a backfill.
+     */
+    @Value("${app.nhl.import.max-concurrency:8}")
+    private int maxConcurrency;
 
     public void importAllTeams() {
         logger.info("🚀 Začínám import všech týmů...");
         updatePlayerInjuries();
 
         for (String teamAbbrev : NHL_TEAMS) {
+            rateLimiter.acquire();
             importRosterForTeam(teamAbbrev);
-            try {
-                Thread.sleep(DELAY_BETWEEN_TEAMS_MS);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                logger.warn("Import interrupted while waiting between teams", e);
-            }
         }
+        // Players may have been changed outside this import, so rebuild the cache from scratch
+        playerIdResolver.reload();
         logger.info("✅ Import všech týmů dokončen.");
     }
 
     private void importRosterForTeam(String teamAbbrev) {
         logger.info("Stahuji soupisku pro: {}", teamAbbrev);
-        String url = "https://api-web.nhle.com/v1/roster/" + teamAbbrev + "/current";
-
         try {
-            NhlRosterResponse response = restTemplate.getForObject(url, NhlRosterResponse.class);
+            NhlRosterResponse response = nhlApiClient.getRoster(teamAbbrev);
             if (response == null)
                 return;
 
@@ -69,9 +78,7 @@ public class NhlApiService {
             allPlayers.addAll(response.getDefensemen());
             allPlayers.addAll(response.getGoalies());
 
-            for (NhlPlayerDto dto : allPlayers) {
-                savePlayerToDb(dto, teamAbbrev);
-            }
+            savePlayersToDb(allPlayers, teamAbbrev);
         } catch (Exception e) {
             logger.error("Chyba u týmu {}: {}", teamAbbrev, e.getMessage());
         }
@@ -92,32 +99,42 @@ public class NhlApiService {
     }
 
     public void updateStatsFromYesterday() {
-        String yesterday = LocalDate.now().minusDays(1).toString();
-        String url = "https://api-web.nhle.com/v1/schedule/" + yesterday;
+        LocalDate yesterday = LocalDate.now().minusDays(1);
         logger.info("🔍 Hledám zápasy pro datum: {}", yesterday);
+        updateStatsForDateRange(yesterday, yesterday);
+    }
 
-        try {
-            NhlScheduleResponse response = restTemplate.getForObject(url, NhlScheduleResponse.class);
+    /**
+     * Creates or updates the players of one roster.
+     * Existing players are loaded with a single query and the new mappings
+     * are handed to the {@link PlayerIdResolver} so ingestion sees them
+     * immediately.
+     */
+    private void savePlayersToDb(List<NhlPlayerDto> dtos, String teamCode) {
+        List<Long> nhlIds = dtos.stream().map(NhlPlayerDto::getId).toList();
+        Map<Long, Player> existing = new HashMap<>();
+        for (Player player : playerRepository.findByNhlIdIn(nhlIds)) {
+            existing.put(player.getNhlId(), player);
+        }
 
-            if (response != null && response.getGameWeek() != null) {
-                for (NhlScheduleResponse.GameWeekDto day : response.getGameWeek()) {
-                    if (day.getDate().equals(yesterday)) {
-                        for (NhlScheduleResponse.GameDto game : day.getGames()) {
-                            logger.info("🚀 Nalezen zápas ID: {}. Zpracovávám...", game.getId());
-                            processGame(game.getId(), LocalDate.parse(yesterday));
-                        }
-                    }
-                }
-            }
-        } catch (Exception e) {
-            logger.error("Chyba při stahování rozvrhu: {}", e.getMessage());
+        List<Player> players = new ArrayList<>(dtos.size());
+        for (NhlPlayerDto dto : dtos) {
+            Player player = existing.computeIfAbsent(dto.getId(), id -> new Player());
+            applyRosterData(player, dto, teamCode);
+            players.add(player);
         }
-    }
 
-    private void savePlayerToDb(NhlPlayerDto dto, String teamCode) {
-        Player player = playerRepository.findByNhlId(dto.getId())
-                .orElse(new Player());
+        List<Player> saved = playerRepository.saveAll(players);
+        long[] savedNhlIds = new long[saved.size()];
+        long[] savedIds = new long[saved.size()];
+        for (int i = 0; i < saved.size(); i++) {
+            savedNhlIds[i] = saved.get(i).getNhlId();
+            savedIds[i] = saved.get(i).getId();
+        }
+        playerIdResolver.registerAll(savedNhlIds, savedIds);
+    }
 
+    private void applyRosterData(Player player, NhlPlayerDto dto, String teamCode) {
         player.setNhlId(dto.getId());
         player.setFirstName(dto.getFirstNameObj().getDefaultName());
         player.setLastName(dto.getLastNameObj().getDefaultName());
@@ -129,80 +146,16 @@ public class NhlApiService {
         player.setPosition(pos);
         player.setTeamName(teamCode);
         player.setHeadshotUrl(dto.getHeadshot());
-
-        playerRepository.save(player);
     }
 
+    /**
+     * Imports statistics of a single game.
+     *
+     * @param gameId   NHL game ID
+     * @param gameDate date the game was played
+     */
     public void processGame(Long gameId, LocalDate gameDate) {
-        String url = "https://api-web.nhle.com/v1/gamecenter/" + gameId + "/boxscore";
-
-        try {
-            NhlBoxscoreResponse response = restTemplate.getForObject(url, NhlBoxscoreResponse.class);
-
-            if (response == null || response.getPlayerByGameStats() == null) {
-                return;
-            }
-
-            processTeamStats(response.getPlayerByGameStats().getAwayTeam(), gameId,
-                    response.getAwayTeam().getScore() > response.getHomeTeam().getScore(), gameDate);
-            processTeamStats(response.getPlayerByGameStats().getHomeTeam(), gameId,
-                    response.getHomeTeam().getScore() > response.getAwayTeam().getScore(), gameDate);
-
-        } catch (Exception e) {
-            logger.error("Chyba při stahování zápasu {}: {}", gameId, e.getMessage());
-        }
-    }
-
-    private void processTeamStats(NhlBoxscoreResponse.TeamStats teamStats, Long gameId, boolean isWinner,
-            LocalDate gameDate) {
-        if (teamStats == null)
-            return;
-
-        List<NhlBoxscoreResponse.PlayerStatDto> skaters = new ArrayList<>();
-        if (teamStats.getForwards() != null) {
-            skaters.addAll(teamStats.getForwards());
-        }
-        if (teamStats.getDefense() != null) {
-            skaters.addAll(teamStats.getDefense());
-        }
-
-        for (NhlBoxscoreResponse.PlayerStatDto p : skaters) {
-            // Započítáme, pokud má hráč alespoň nějakou statistiku (nejen góly/asistence)
-            if (p.getGoals() > 0 || p.getAssists() > 0 || p.getShots() > 0 || p.getBlockedShots() > 0
-                    || p.getHits() > 0 || p.getPim() > 0 || p.getPlusMinus() != 0) {
-                try {
-                    pointsService.addStatsForPlayer(
-                            p.getPlayerId(),
-                            gameId,
-                            p.getGoals(),
-                            p.getAssists(),
-                            p.getPlusMinus(),
-                            p.getShots(),
-                            p.getBlockedShots(),
-                            p.getHits(),
-                            p.getPim(),
-                            gameDate);
-                } catch (Exception e) {
-                    logger.warn("⚠️ CHYBA u hráče ID {}: {}", p.getPlayerId(), e.getMessage());
-                }
-            }
-        }
-
-        if (teamStats.getGoalies() != null) {
-            for (NhlBoxscoreResponse.GoalieStatDto g : teamStats.getGoalies()) {
-                try {
-                    pointsService.addGoalieStatsForPlayer(
-                            g.getPlayerId(),
-                            gameId,
-                            g.getSaves(),
-                            g.getShotsAgainst(),
-                            isWinner,
-                            gameDate);
-                } catch (Exception e) {
-                    logger.warn("⚠️ CHYBA u brankáře ID {}: {}", g.getPlayerId(), e.getMessage());
-                }
-            }
-        }
+        ingestionPipeline.ingest(List.of(new GameRef(gameId, gameDate)));
     }
 
     public void resetAndImportSeasonData() {
@@ -212,26 +165,38 @@ public class NhlApiService {
         importSeasonData();
     }
 
+    /**
+     * Imports statistics for every game played between the two dates (inclusive).
+     * Schedules are fetched concurrently on virtual threads; the number of
+     * requests in flight is capped by {@code app.nhl.import.max-concurrency}
+     * and paced by the shared {@link RequestRateLimiter}. Boxscores are then
+     * imported by the {@link StatsIngestionPipeline}.
+     *
+     * @param startDate first day to import
+     * @param endDate   last day to import
+     */
     public void updateStatsForDateRange(LocalDate startDate, LocalDate endDate) {
         logger.info("🚀 START: Aktualizace statistik od {} do {}", startDate, endDate);
 
-        LocalDate currentDate = startDate;
-
-        while (currentDate.isBefore(endDate) || currentDate.equals(endDate)) {
-            String dateStr = currentDate.toString();
-            logger.info("📅 Zpracovávám den: {}", dateStr);
+        Semaphore permits = new Semaphore(Math.max(1, maxConcurrency));
+        List<GameRef> games = new ArrayList<>();
 
-            processScheduleForDate(dateStr);
-
-            currentDate = currentDate.plusDays(1);
+        // 1. Fetch all schedule days in parallel and collect the games to import
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<List<GameRef>>> days = new ArrayList<>();
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                String dateStr = date.toString();
+                days.add(executor.submit(() -> throttled(permits, () -> findGamesForDate(dateStr))));
+            }
 
-            try {
-                Thread.sleep(DELAY_BETWEEN_DAYS_MS);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                logger.warn("Import interrupted while waiting between days", e);
+            for (Future<List<GameRef>> day : days) {
+                games.addAll(await(day, List.of()));
             }
         }
+        logger.info("📅 Nalezeno {} zápasů, stahuji boxscore...", games.size());
+
+        // 2. Fetch, parse, score and persist the boxscores in the staged pipeline
+        ingestionPipeline.ingest(games);
 
         logger.info("🏁 KONEC: Aktualizace statistik dokončena.");
     }
@@ -281,31 +246,24 @@ public class NhlApiService {
     }
 
     public NhlScheduleResponse getSchedule(LocalDate date) {
-        String url = "https://api-web.nhle.com/v1/schedule/" + date.toString();
         try {
-            return restTemplate.getForObject(url, NhlScheduleResponse.class);
+            return nhlApiClient.getSchedule(date);
         } catch (Exception e) {
             logger.error("Chyba při stahování rozvrhu pro {}: {}", date, e.getMessage());
             return null;
         }
     }
 
-    private void processScheduleForDate(String dateStr) {
-        String url = "https://api-web.nhle.com/v1/schedule/" + dateStr;
+    private List<GameRef> findGamesForDate(String dateStr) {
+        List<GameRef> games = new ArrayList<>();
         try {
-            NhlScheduleResponse response = restTemplate.getForObject(url, NhlScheduleResponse.class);
+            NhlScheduleResponse response = nhlApiClient.getSchedule(LocalDate.parse(dateStr));
 
             if (response != null && response.getGameWeek() != null) {
                 for (NhlScheduleResponse.GameWeekDto day : response.getGameWeek()) {
-                    if (day.getDate().equals(dateStr)) {
+                    if (day.getDate().equals(dateStr) && day.getGames() != null) {
                         for (NhlScheduleResponse.GameDto game : day.getGames()) {
-                            processGame(game.getId(), LocalDate.parse(dateStr));
-                            try {
-                                Thread.sleep(DELAY_BETWEEN_GAMES_MS);
-                            } catch (InterruptedException e) {
-                                Thread.currentThread().interrupt();
-                                logger.warn("Import interrupted while waiting between games", e);
-                            }
+                            games.add(new GameRef(game.getId(), LocalDate.parse(dateStr)));
                         }
                     }
                 }
@@ -313,5 +271,32 @@ public class NhlApiService {
         } catch (Exception e) {
             logger.error("⚠️ Chyba importu pro {}: {}", dateStr, e.getMessage());
         }
+        return games;
+    }
+
+    /**
+     * Runs a single upstream call while holding a concurrency permit and a
+     * rate-limiter token.
+     */
+    private <T> T throttled(Semaphore permits, Supplier<T> call) throws InterruptedException {
+        permits.acquire();
+        try {
+            rateLimiter.acquire();
+            return call.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private <T> T await(Future<T> future, T fallback) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Import interrupted while waiting for NHL API", e);
+        } catch (ExecutionException e) {
+            logger.error("⚠️ Chyba importu: {}", e.getCause().getMessage());
+        }
+        return fallback;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,166 @@
+package com.fantasyhockey.fantasy_league.service;
+
+import com.fantasyhockey.fantasy_league.repository.PlayerRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * In-memory resolution of NHL player IDs to our player IDs.
+ * Stat ingestion resolves thousands of stat lines against the same few
+ * hundred active players, so the mapping is kept in a primitive open-addressing
+ * table instead of querying the database per line.
+ *
+ * The table is warmed on application startup and replaced whenever a roster
+ * import saves players. Lookups read an immutable snapshot and never block.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlayerIdResolver implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlayerIdResolver.class);
+
+    /**
+     * Returned by {@link #resolve(long)} for NHL IDs without a player.
+     */
+    public static final long UNKNOWN = -1L;
+
+    private final PlayerRepository playerRepository;
+
+    private volatile LongLongMap snapshot = new LongLongMap(0);
+
+    /**
+     * Loads the full mapping on application startup.
+     *
+     * @param args command line arguments (not used)
+     */
+    @Override
+    public void run(String... args) {
+        reload();
+    }
+
+    /**
+     * Rebuilds the mapping from the database.
+     */
+    public synchronized void reload() {
+        List<Object[]> pairs = playerRepository.findAllNhlIdPairs();
+        LongLongMap map = new LongLongMap(pairs.size());
+        for (Object[] row : pairs) {
+            if (row[0] != null) {
+                map.put((Long) row[0], (Long) row[1]);
+            }
+        }
+        snapshot = map;
+        logger.info("🗂️ Načteno {} hráčů do cache NHL ID", map.size());
+    }
+
+    /**
+     * Adds or updates mappings of freshly saved players.
+     *
+     * @param nhlIds    NHL IDs, parallel to {@code playerIds}
+     * @param playerIds our player IDs
+     */
+    public synchronized void registerAll(long[] nhlIds, long[] playerIds) {
+        LongLongMap map = snapshot.copyWithCapacity(snapshot.size() + nhlIds.length);
+        for (int i = 0; i < nhlIds.length; i++) {
+            map.put(nhlIds[i], playerIds[i]);
+        }
+        snapshot = map;
+    }
+
+    /**
+     * Resolves an NHL player ID without touching the database.
+     *
+     * @param nhlId the NHL player ID
+     * @return our player ID, or {@link #UNKNOWN} if no such player is stored
+     */
+    public long resolve(long nhlId) {
+        return snapshot.get(nhlId);
+    }
+
+    /**
+     * Open-addressing hash table with linear probing from long keys to long
+     * values. Key 0 marks an empty slot; NHL IDs are always positive.
+     * Instances are mutated only before being published as a snapshot.
+     */
+    private static final class LongLongMap {
+
+        private final long[] keys;
+        private final long[] values;
+        private final int mask;
+        private int size;
+
+        LongLongMap(int expected) {
+            // Keep the load factor at or below 0.5
+            int capacity = Integer.highestOneBit(Math.max(16, expected * 2 - 1)) << 1;
+            keys = new long[capacity];
+            values = new long[capacity];
+            mask = capacity - 1;
+        }
+
+        long get(long key) {
+            if (key <= 0) {
+                return UNKNOWN;
+            }
+            for (int i = slot(key);; i = (i + 1) & mask) {
+                long k = keys[i];
+                if (k == key) {
+                    return values[i];
+                }
+                if (k == 0) {
+                    return UNKNOWN;
+                }
+            }
+        }
+
+        void put(long key, long value) {
+            if (key <= 0) {
+                return;
+            }
+            int i = slot(key);
+            while (keys[i] != 0 && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (keys[i] == 0) {
+                size++;
+            }
+            keys[i] = key;
+            values[i] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        LongLongMap copyWithCapacity(int expected) {
+            if (expected * 2 <= keys.length) {
+                return new LongLongMap(Arrays.copyOf(keys, keys.length), Arrays.copyOf(values, values.length),
+                        size);
+            }
+            LongLongMap copy = new LongLongMap(expected);
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != 0) {
+                    copy.put(keys[i], values[i]);
+                }
+            }
+            return copy;
+        }
+
+        private LongLongMap(long[] keys, long[] values, int size) {
+            this.keys = keys;
+            this.values = values;
+            this.mask = keys.length - 1;
+            this.size = size;
+        }
+
+        private int slot(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.fantasyhockey.fantasy_league.service;
+
+import com.fantasyhockey.fantasy_league.model.Player;
+import com.fantasyhockey.fantasy_league.model.PlayerSeasonTotals;
+import com.fantasyhockey.fantasy_league.model.PlayerStats;
+import com.fantasyhockey.fantasy_league.repository.PlayerSeasonTotalsRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintains the player_season_totals projection read by the season getters
+ * of {@link com.fantasyhockey.fantasy_league.model.Player}.
+ */
+@Service
+@RequiredArgsConstructor
+public class PlayerSeasonTotalsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlayerSeasonTotalsService.class);
+
+    private final PlayerSeasonTotalsRepository totalsRepository;
+
+    /**
+     * Recomputes the season totals of every player from recorded stats.
+     */
+    @Transactional
+    public void rebuild() {
+        totalsRepository.rebuild();
+        logger.info("📊 Sezónní součty hráčů přepočítány");
+    }
+
+    /**
+     * Adds newly recorded stat rows to the season totals.
+     * Must run inside the transaction that records the stats.
+     *
+     * @param stats newly inserted stat rows
+     */
+    public void addGames(List<PlayerStats> stats) {
+        totalsRepository.addGames(stats);
+    }
+
+    /**
+     * Attaches the season totals to players about to be displayed, with one
+     * query for the whole collection. Players without a totals row read as
+     * zero.
+     *
+     * @param players players whose season getters will be read
+     */
+    public void attachTotals(Collection<Player> players) {
+        if (players.isEmpty()) {
+            return;
+        }
+        Map<Long, PlayerSeasonTotals> totals = new HashMap<>();
+        for (PlayerSeasonTotals row : totalsRepository.findAllById(players.stream().map(Player::getId).toList())) {
+            totals.put(row.getPlayerId(), row);
+        }
+        players.forEach(player -> player.setSeasonTotals(totals.get(player.getId())));
+    }
+
+    /**
+     * Deletes all season totals; players without a row read as zero.
+     */
+    public void clear() {
+        totalsRepository.deleteAllInBatch();
+    }
+}
@@ -1,6 +1,7 @@
 package com.fantasyhockey.fantasy_league.service;
 
-import com.fantasyhockey.fantasy_league.model.FantasyTeam;
+import com.fantasyhockey.fantasy_league.dto.GameBoxscore;
+import com.fantasyhockey.fantasy_league.dto.ScoredGame;
 import com.fantasyhockey.fantasy_league.model.Player;
 import com.fantasyhockey.fantasy_league.model.PlayerStats;
 import com.fantasyhockey.fantasy_league.repository.FantasyTeamRepository;
@@ -11,7 +12,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,12 +36,18 @@ public class PointsService {
     private final PlayerRepository playerRepository;
     private final PlayerStatsRepository statsRepository;
     private final FantasyTeamRepository teamRepository;
+    private final PlayerIdResolver playerIdResolver;
+    private final LineupSnapshotService lineupSnapshotService;
+    private final TeamWeekScoreService teamWeekScoreService;
+    private final PlayerSeasonTotalsService seasonTotalsService;
+    private final ScoringRuleService scoringRuleService;
 
     // ==================== Scoring System Configuration ====================
 
     /**
-     * Fantasy points scoring rules for skaters and goalies.
-     * These constants define how NHL statistics are converted to fantasy points.
+     * Default fantasy points scoring rules for skaters and goalies.
+     * These constants seed the first version of the league's scoring rules;
+     * the active rules live in the database (see {@link ScoringRuleService}).
      */
     public static class ScoringRules {
         // Skater Scoring
@@ -60,87 +72,133 @@ public class PointsService {
     // ==================== Public Methods ====================
 
     /**
-     * Processes and records statistics for a skater (forward or defenseman).
-     * Calculates fantasy points based on goals, assists, and other stats,
-     * then updates the player's stats history and team totals.
-     * 
-     * @param nhlPlayerId  NHL API player ID
-     * @param gameId       NHL game ID (used to prevent duplicate processing)
-     * @param goals        Number of goals scored
-     * @param assists      Number of assists
-     * @param plusMinus    Plus/minus rating
-     * @param shots        Shots on goal
-     * @param blockedShots Blocked shots
-     * @param hits         Hits delivered
-     * @param pim          Penalty minutes
-     * @param date         Date of the game
+     * Calculates fantasy points for every stat line of a game.
+     * Pure CPU work with no database access, so it can run on any thread.
+     * Skaters without any recorded statistic are left out.
+     *
+     * @param boxscore parsed boxscore of the game
+     * @param date     date the game was played
+     * @return the game's stat lines with their fantasy points
      */
-    @Transactional
-    public void addStatsForPlayer(Long nhlPlayerId, Long gameId, int goals, int assists, int plusMinus, int shots,
-            int blockedShots, int hits, int pim, LocalDate date) {
-
-        Player player = playerRepository.findByNhlId(nhlPlayerId)
-                .orElseThrow(() -> new RuntimeException("Player not found with NHL ID: " + nhlPlayerId));
-
-        // Check for duplicate game processing
-        if (statsRepository.existsByPlayerIdAndGameId(player.getId(), gameId)) {
-            logger.warn("⚠️ Game {} already processed for player {}. Skipping.", gameId, player.getLastName());
-            return;
+    public ScoredGame scoreGame(GameBoxscore boxscore, LocalDate date) {
+        CompiledScoring scoring = scoringRuleService.current();
+        List<ScoredGame.ScoredSkater> skaters = new ArrayList<>(boxscore.skaters().size());
+        for (GameBoxscore.SkaterLine line : boxscore.skaters()) {
+            // Započítáme, pokud má hráč alespoň nějakou statistiku (nejen góly/asistence)
+            if (line.hasStats()) {
+                long points = calculateSkaterPoints(scoring, line.goals(), line.assists(), line.plusMinus(), line.shots(),
+                        line.blockedShots(), line.hits(), line.pim());
+                skaters.add(new ScoredGame.ScoredSkater(line, points));
+            }
         }
 
-        // Calculate fantasy points
-        int fantasyPoints = calculateSkaterPoints(goals, assists, plusMinus, shots, blockedShots, hits, pim);
-
-        // Save player stats
-        PlayerStats stats = createSkaterStats(player, gameId, date, goals, assists, plusMinus,
-                shots, blockedShots, hits, pim, fantasyPoints);
-        statsRepository.save(stats);
-
-        // Update team totals
-        updateTeamPoints(player, fantasyPoints);
+        List<ScoredGame.ScoredGoalie> goalies = new ArrayList<>(boxscore.goalies().size());
+        for (GameBoxscore.GoalieLine line : boxscore.goalies()) {
+            int goalsAgainst = line.shotsAgainst() - line.saves();
+            boolean isShutout = (goalsAgainst == 0 && line.shotsAgainst() > 0);
+            boolean isWinner = boxscore.isWinner(line.home());
+            long points = calculateGoaliePoints(scoring, line.saves(), goalsAgainst, isShutout, isWinner);
+            goalies.add(new ScoredGame.ScoredGoalie(line, isWinner, points));
+        }
 
-        logger.info("✅ Points recorded: {} ({}pts)", player.getLastName(), fantasyPoints);
+        return new ScoredGame(boxscore.gameId(), date, skaters, goalies);
     }
 
     /**
-     * Processes and records statistics for a goalie.
-     * Calculates fantasy points based on saves, goals against, and shutouts,
-     * then updates the player's stats history and team totals.
-     * 
-     * @param nhlPlayerId  NHL API player ID
-     * @param gameId       NHL game ID (used to prevent duplicate processing)
-     * @param saves        Number of saves made
-     * @param shotsAgainst Number of shots faced
-     * @param isWinner     Whether the goalie won the game
-     * @param date         Date of the game
+     * Records all scored stat lines of several games in a single transaction
+     * and updates team totals.
+     * Players are resolved from the in-memory {@link PlayerIdResolver}, all
+     * rows are inserted with one JDBC batch and every affected team total is
+     * incremented once per game day, so the cost no longer grows with round
+     * trips per player or per game.
+     * Lines of players unknown to the database and lines with impossible
+     * values are logged and skipped; the rest of the game is still recorded.
+     * Lines already recorded for a game are rejected by the unique
+     * (player_id, game_id) constraint, so only rows that were actually
+     * inserted count towards totals, even when the same game is recorded
+     * concurrently.
+     *
+     * @param games scored stat lines of the games
      */
     @Transactional
-    public void addGoalieStatsForPlayer(Long nhlPlayerId, Long gameId, int saves, int shotsAgainst, boolean isWinner,
-            LocalDate date) {
-        Player player = playerRepository.findByNhlId(nhlPlayerId)
-                .orElseThrow(() -> new RuntimeException("Goalie not found with NHL ID: " + nhlPlayerId));
-
-        // Check for duplicate game processing
-        if (statsRepository.existsByPlayerIdAndGameId(player.getId(), gameId)) {
-            logger.warn("⚠️ Game {} already processed for goalie {}. Skipping.", gameId, player.getLastName());
+    public void recordScoredGames(List<ScoredGame> games) {
+        Set<Long> nhlIds = new HashSet<>();
+        for (ScoredGame game : games) {
+            game.skaters().forEach(s -> nhlIds.add(s.line().playerId()));
+            game.goalies().forEach(g -> nhlIds.add(g.line().playerId()));
+        }
+        if (nhlIds.isEmpty()) {
             return;
         }
 
-        int goalsAgainst = shotsAgainst - saves;
-        boolean isShutout = (goalsAgainst == 0 && shotsAgainst > 0);
+        Map<Long, Long> playerIdsByNhlId = new HashMap<>();
+        for (long nhlId : nhlIds) {
+            long playerId = playerIdResolver.resolve(nhlId);
+            if (playerId != PlayerIdResolver.UNKNOWN) {
+                playerIdsByNhlId.put(nhlId, playerId);
+            }
+        }
+        List<PlayerStats> rows = new ArrayList<>(nhlIds.size());
+
+        for (ScoredGame game : games) {
+            Set<Long> seen = new HashSet<>();
+            for (ScoredGame.ScoredSkater skater : game.skaters()) {
+                GameBoxscore.SkaterLine line = skater.line();
+                if (!isValid(line)) {
+                    logger.warn("⚠️ Invalid stat line in game {} for player {}. Skipping.", game.gameId(),
+                            line.playerId());
+                    continue;
+                }
+                Long playerId = resolvePlayerForGame(line.playerId(), game.gameId(), playerIdsByNhlId, seen);
+                if (playerId == null) {
+                    continue;
+                }
+
+                rows.add(createSkaterStats(playerRepository.getReferenceById(playerId), game.gameId(), game.date(),
+                        line.goals(), line.assists(), line.plusMinus(), line.shots(), line.blockedShots(),
+                        line.hits(), line.pim(), skater.fantasyPoints()));
+            }
 
-        // Calculate fantasy points
-        int fantasyPoints = calculateGoaliePoints(saves, goalsAgainst, isShutout);
+            for (ScoredGame.ScoredGoalie goalie : game.goalies()) {
+                GameBoxscore.GoalieLine line = goalie.line();
+                if (!isValid(line)) {
+                    logger.warn("⚠️ Invalid stat line in game {} for player {}. Skipping.", game.gameId(),
+                            line.playerId());
+                    continue;
+                }
+                Long playerId = resolvePlayerForGame(line.playerId(), game.gameId(), playerIdsByNhlId, seen);
+                if (playerId == null) {
+                    continue;
+                }
+
+                rows.add(createGoalieStats(playerRepository.getReferenceById(playerId), game.gameId(), game.date(),
+                        line.saves(), line.shotsAgainst(), line.shotsAgainst() - line.saves(), goalie.win(),
+                        goalie.fantasyPoints()));
+            }
+        }
 
-        // Save goalie stats
-        PlayerStats stats = createGoalieStats(player, gameId, date, saves, shotsAgainst,
-                goalsAgainst, isWinner, fantasyPoints);
-        statsRepository.save(stats);
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        List<PlayerStats> inserted = statsRepository.insertAll(rows);
+        if (inserted.size() < rows.size()) {
+            logger.warn("⚠️ {} stat lines of {} games already processed. Skipping them.",
+                    rows.size() - inserted.size(), games.size());
+        }
+        if (inserted.isEmpty()) {
+            return;
+        }
 
-        // Update team totals
-        updateTeamPoints(player, fantasyPoints);
+        Map<LocalDate, Map<Long, Long>> pointsByDate = new HashMap<>();
+        for (PlayerStats row : inserted) {
+            pointsByDate.computeIfAbsent(row.getDate(), d -> new HashMap<>())
+                    .merge(row.getPlayer().getId(), row.getFantasyPoints(), Long::sum);
+        }
+        seasonTotalsService.addGames(inserted);
+        pointsByDate.forEach(this::updateTeamPoints);
 
-        logger.info("✅ Points recorded for goalie: {} ({}pts)", player.getLastName(), fantasyPoints);
+        logger.info("✅ Points recorded for {} games ({} stat lines)", games.size(), inserted.size());
     }
 
     /**
@@ -150,59 +208,66 @@ public class PointsService {
     @Transactional
     public void resetAllStats() {
         statsRepository.deleteAll();
-        List<FantasyTeam> teams = teamRepository.findAll();
-        for (FantasyTeam team : teams) {
-            team.setTotalFantasyPoints(0);
-            teamRepository.save(team);
-        }
+        teamWeekScoreService.clear();
+        seasonTotalsService.clear();
+        teamRepository.resetFantasyPoints();
     }
 
     // ==================== Private Helper Methods ====================
 
     /**
-     * Calculates fantasy points for a skater based on game statistics.
+     * Looks up the player of a stat line in the prefetched lookups.
+     *
+     * @return our player ID, or null if unknown or the player already has a
+     *         line in this boxscore
      */
-    private int calculateSkaterPoints(int goals, int assists, int plusMinus, int shots,
-            int blockedShots, int hits, int pim) {
-        double points = 0;
-
-        // Core scoring stats
-        points += goals * ScoringRules.POINTS_PER_GOAL;
-        points += assists * ScoringRules.POINTS_PER_ASSIST;
-
-        // Defensive and physical stats
-        points += plusMinus * ScoringRules.POINTS_PER_PLUS_MINUS;
-        points += shots * ScoringRules.POINTS_PER_SHOT;
-        points += blockedShots * ScoringRules.POINTS_PER_BLOCK;
-        points += hits * ScoringRules.POINTS_PER_HIT;
-        points += pim * ScoringRules.POINTS_PER_PIM;
-
-        // Bonus for hat trick
-        if (goals >= ScoringRules.HATTRICK_THRESHOLD) {
-            points += ScoringRules.POINTS_PER_HATTRICK;
+    private Long resolvePlayerForGame(long nhlPlayerId, long gameId, Map<Long, Long> playerIdsByNhlId,
+            Set<Long> seen) {
+        Long playerId = playerIdsByNhlId.get(nhlPlayerId);
+        if (playerId == null) {
+            logger.warn("⚠️ Player not found with NHL ID: {}", nhlPlayerId);
+            return null;
         }
 
-        return (int) Math.round(points);
+        // Same player listed twice in one boxscore
+        if (!seen.add(playerId)) {
+            logger.warn("⚠️ Duplicate line in game {} for player {}. Skipping.", gameId, nhlPlayerId);
+            return null;
+        }
+        return playerId;
     }
 
     /**
-     * Calculates fantasy points for a goalie based on game statistics.
+     * Rejects stat lines the NHL feed can not produce for a real game, such
+     * as negative counts or more saves than shots against.
      */
-    private int calculateGoaliePoints(int saves, int goalsAgainst, boolean isShutout) {
-        double points = 0;
-
-        // Saves (e.g., 30 saves * 0.2 = 6 points)
-        points += saves * ScoringRules.POINTS_PER_SAVE;
+    private static boolean isValid(GameBoxscore.SkaterLine line) {
+        return line.goals() >= 0 && line.assists() >= 0 && line.shots() >= 0 && line.blockedShots() >= 0
+                && line.hits() >= 0 && line.pim() >= 0;
+    }
 
-        // Goals against (e.g., 2 goals * -1 = -2 points)
-        points += goalsAgainst * ScoringRules.POINTS_PER_GOAL_AGAINST;
+    private static boolean isValid(GameBoxscore.GoalieLine line) {
+        return line.saves() >= 0 && line.shotsAgainst() >= line.saves();
+    }
 
-        // Shutout bonus
-        if (isShutout) {
-            points += ScoringRules.POINTS_PER_SHUTOUT;
-        }
+    /**
+     * Calculates fantasy points (in hundredths) for a skater based on game
+     * statistics. Package-private so the rescoring job scores exactly like
+     * ingestion.
+     */
+    long calculateSkaterPoints(CompiledScoring scoring, int goals, int assists, int plusMinus, int shots,
+            int blockedShots, int hits, int pim) {
+        return scoring.skaterPoints(goals, assists, plusMinus, shots, blockedShots, hits, pim);
+    }
 
-        return (int) Math.round(points);
+    /**
+     * Calculates fantasy points (in hundredths) for a goalie based on game
+     * statistics. Package-private so the rescoring job scores exactly like
+     * ingestion.
+     */
+    long calculateGoaliePoints(CompiledScoring scoring, int saves, int goalsAgainst, boolean isShutout,
+            boolean isWinner) {
+        return scoring.goaliePoints(saves, goalsAgainst, isShutout, isWinner);
     }
 
     /**
@@ -210,7 +275,7 @@ public class PointsService {
      */
     private PlayerStats createSkaterStats(Player player, Long gameId, LocalDate date,
             int goals, int assists, int plusMinus, int shots,
-            int blockedShots, int hits, int pim, int fantasyPoints) {
+            int blockedShots, int hits, int pim, long fantasyPoints) {
         PlayerStats stats = new PlayerStats();
         stats.setPlayer(player);
         stats.setGameId(gameId);
@@ -231,7 +296,7 @@ public class PointsService {
      */
     private PlayerStats createGoalieStats(Player player, Long gameId, LocalDate date,
             int saves, int shotsAgainst, int goalsAgainst,
-            boolean isWinner, int fantasyPoints) {
+            boolean isWinner, long fantasyPoints) {
         PlayerStats stats = new PlayerStats();
         stats.setPlayer(player);
         stats.setGameId(gameId);
@@ -245,16 +310,15 @@ public class PointsService {
     }
 
     /**
-     * Updates fantasy point totals for all teams that have this player on their
-     * roster.
+     * Credits a day's points to the totals and weekly scores of the teams
+     * that had the scoring players in that day's snapshot. Teams without a
+     * snapshot of the day first get their current roster frozen as one, so
+     * a later rebuild counts the same players. Both aggregates are updated
+     * with one set-based statement per game day.
      */
-    private void updateTeamPoints(Player player, int fantasyPoints) {
-        List<FantasyTeam> allTeams = teamRepository.findAll();
-        for (FantasyTeam team : allTeams) {
-            if (team.getPlayers().contains(player)) {
-                team.setTotalFantasyPoints(team.getTotalFantasyPoints() + fantasyPoints);
-                teamRepository.save(team);
-            }
-        }
+    private void updateTeamPoints(LocalDate date, Map<Long, Long> pointsByPlayer) {
+        lineupSnapshotService.freezeMissingRosters(date);
+        teamRepository.addFantasyPoints(date, pointsByPlayer);
+        teamWeekScoreService.addPoints(date, pointsByPlayer);
     }
-}
\ No newline at end of file
+}
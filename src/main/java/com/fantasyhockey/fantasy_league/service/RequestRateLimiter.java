@@ -0,0 +1,71 @@
+package com.fantasyhockey.fantasy_league.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token-bucket rate limiter for outgoing NHL API requests.
+ * Replaces fixed sleeps between requests: callers may burst up to the bucket
+ * capacity and are then paced at the configured refill rate.
+ *
+ * Safe to use from virtual threads - waiting happens outside the lock, so
+ * carrier threads are never pinned while a caller is throttled.
+ */
+@Component
+public class RequestRateLimiter {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final double capacity;
+    private final double nanosPerToken;
+
+    /**
+     * Currently available tokens. May go negative, which means callers have
+     * already reserved future tokens and must wait for them to refill.
+     */
+    private double tokens;
+    private long lastRefillNanos;
+
+    public RequestRateLimiter(@Value("${app.nhl.import.requests-per-second:10}") double requestsPerSecond,
+            @Value("${app.nhl.import.burst:5}") int burst) {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("requests-per-second must be positive");
+        }
+        this.capacity = Math.max(1, burst);
+        this.nanosPerToken = 1_000_000_000d / requestsPerSecond;
+        this.tokens = this.capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Takes one token from the bucket, blocking until it is available.
+     */
+    public void acquire() {
+        long waitNanos;
+        lock.lock();
+        try {
+            refill();
+            tokens -= 1;
+            waitNanos = tokens >= 0 ? 0 : (long) (-tokens * nanosPerToken);
+        } finally {
+            lock.unlock();
+        }
+
+        if (waitNanos > 0) {
+            try {
+                Thread.sleep(Duration.ofNanos(waitNanos));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double refilled = (now - lastRefillNanos) / nanosPerToken;
+        tokens = Math.min(capacity, tokens + refilled);
+        lastRefillNanos = now;
+    }
+}
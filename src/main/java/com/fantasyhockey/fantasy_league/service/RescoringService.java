@@ -0,0 +1,148 @@
+package com.fantasyhockey.fantasy_league.service;
+
+import com.fantasyhockey.fantasy_league.dto.StoredStatLine;
+import com.fantasyhockey.fantasy_league.repository.FantasyTeamRepository;
+import com.fantasyhockey.fantasy_league.repository.PlayerStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+/**
+ * Recomputes fantasy points of every stored game from the raw statistics
+ * already kept in player_stats, so a change of the scoring rules does not
+ * require deleting and downloading the whole season again.
+ *
+ * Rows are streamed in ID-ordered chunks; points of a chunk are computed in
+ * parallel and only changed rows are written back with one set-based UPDATE.
+ * Team totals, weekly scores, season totals and standings are rebuilt from
+ * the rescored rows afterwards. No NHL API requests are made.
+ */
+@Service
+@RequiredArgsConstructor
+public class RescoringService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RescoringService.class);
+
+    private final PlayerStatsRepository statsRepository;
+    private final FantasyTeamRepository teamRepository;
+    private final PointsService pointsService;
+    private final ScoringRuleService scoringRuleService;
+    private final TeamWeekScoreService teamWeekScoreService;
+    private final PlayerSeasonTotalsService seasonTotalsService;
+    private final StandingsService standingsService;
+    private final MatchupService matchupService;
+    private final LineupSnapshotService lineupSnapshotService;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * Number of stat rows read and written per chunk.
+     */
+    @Value("${app.rescore.chunk-size:5000}")
+    private int chunkSize;
+
+    /**
+     * Rescores all stored stats with the active scoring rules and rebuilds
+     * every aggregate derived from them.
+     * Only one rescoring runs at a time; a second call while one is running
+     * returns immediately.
+     *
+     * @return number of rows whose fantasy points changed, or -1 if a
+     *         rescoring was already running
+     */
+    public int rescoreAll() {
+        if (!running.compareAndSet(false, true)) {
+            logger.warn("⚠️ Přepočet bodů už běží");
+            return -1;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            CompiledScoring scoring = scoringRuleService.current();
+            logger.info("🔁 Přepočítávám body podle pravidel verze {}...", scoring.getVersion());
+
+            int scanned = 0;
+            int changed = 0;
+            long lastId = 0;
+            while (true) {
+                List<StoredStatLine> chunk = statsRepository.findRawStatsAfter(lastId, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                changed += rescoreChunk(scoring, chunk);
+                scanned += chunk.size();
+                lastId = chunk.get(chunk.size() - 1).id();
+            }
+
+            rebuildAggregates();
+            logger.info("✅ Přepočet hotov: {} záznamů, {} změněno, {} ms", scanned, changed,
+                    System.currentTimeMillis() - start);
+            return changed;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * Computes new points of a chunk in parallel and writes back the rows
+     * whose points differ from the stored value.
+     */
+    private int rescoreChunk(CompiledScoring scoring, List<StoredStatLine> chunk) {
+        long[] points = new long[chunk.size()];
+        IntStream.range(0, chunk.size()).parallel()
+                .forEach(i -> points[i] = score(scoring, chunk.get(i)));
+
+        int changedCount = 0;
+        for (int i = 0; i < chunk.size(); i++) {
+            if (points[i] != chunk.get(i).fantasyPoints()) {
+                changedCount++;
+            }
+        }
+        if (changedCount == 0) {
+            return 0;
+        }
+
+        Long[] ids = new Long[changedCount];
+        Long[] newPoints = new Long[changedCount];
+        int j = 0;
+        for (int i = 0; i < chunk.size(); i++) {
+            if (points[i] != chunk.get(i).fantasyPoints()) {
+                ids[j] = chunk.get(i).id();
+                newPoints[j] = points[i];
+                j++;
+            }
+        }
+        return statsRepository.updateFantasyPoints(ids, newPoints);
+    }
+
+    private long score(CompiledScoring scoring, StoredStatLine line) {
+        if (line.goalie()) {
+            boolean isShutout = line.goalsAgainst() == 0 && line.shotsAgainst() > 0;
+            return pointsService.calculateGoaliePoints(scoring, line.saves(), line.goalsAgainst(), isShutout,
+                    line.win());
+        }
+        return pointsService.calculateSkaterPoints(scoring, line.goals(), line.assists(), line.plusMinus(),
+                line.shots(), line.blockedShots(), line.hits(), line.pim());
+    }
+
+    /**
+     * Rebuilds everything derived from fantasy points. Team totals and weekly
+     * scores count the players of each day's snapshot, the same as when the
+     * points were first credited.
+     */
+    private void rebuildAggregates() {
+        lineupSnapshotService.freezeMissingRosters();
+        teamRepository.rebuildFantasyPoints();
+        teamWeekScoreService.rebuild();
+        seasonTotalsService.rebuild();
+        standingsService.rebuild();
+        matchupService.updateScoresForCurrentWeek();
+    }
+}
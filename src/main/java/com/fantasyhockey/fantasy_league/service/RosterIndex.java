@@ -0,0 +1,149 @@
+package com.fantasyhockey.fantasy_league.service;
+
+import com.fantasyhockey.fantasy_league.repository.FantasyTeamRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.LongStream;
+
+/**
+ * Reverse index from a player's ID to the IDs of fantasy teams that roster
+ * the player.
+ * Lets live scoring find the teams to credit without loading any team or
+ * its lazy player list.
+ *
+ * Loaded on application startup and kept current by
+ * {@link FantasyTeamService} roster changes, which are applied only after
+ * their transaction commits so a rolled-back change never reaches the index.
+ */
+@Component
+@RequiredArgsConstructor
+public class RosterIndex implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(RosterIndex.class);
+    private static final long[] NO_TEAMS = new long[0];
+
+    private final FantasyTeamRepository teamRepository;
+
+    /**
+     * Player ID -> team IDs. Arrays are never mutated once stored.
+     */
+    private final Map<Long, long[]> teamsByPlayer = new ConcurrentHashMap<>();
+
+    /**
+     * Loads the full index on application startup.
+     *
+     * @param args command line arguments (not used)
+     */
+    @Override
+    public void run(String... args) {
+        reload();
+    }
+
+    /**
+     * Rebuilds the index from the team_players table.
+     */
+    public synchronized void reload() {
+        Map<Long, long[]> loaded = new HashMap<>();
+        List<Object[]> pairs = teamRepository.findAllRosterPairs();
+        for (Object[] row : pairs) {
+            loaded.merge((Long) row[1], new long[] { (Long) row[0] }, RosterIndex::union);
+        }
+        teamsByPlayer.clear();
+        teamsByPlayer.putAll(loaded);
+        logger.info("🗂️ Index soupisek načten ({} hráčů v týmech)", loaded.size());
+    }
+
+    /**
+     * Returns the IDs of teams that have the player on their roster.
+     *
+     * @param playerId the player's ID
+     * @return team IDs, empty if the player is not rostered
+     */
+    public long[] teamsOf(long playerId) {
+        return teamsByPlayer.getOrDefault(playerId, NO_TEAMS);
+    }
+
+    /**
+     * @param playerId the player's ID
+     * @return true if any team rosters the player
+     */
+    public boolean isRostered(long playerId) {
+        return teamsByPlayer.containsKey(playerId);
+    }
+
+    /**
+     * Counts the players on a team's roster. Walks the whole index, so it
+     * is meant for occasional checks, not per-stat-line lookups.
+     *
+     * @param teamId the team's ID
+     * @return roster size
+     */
+    public int rosterSize(long teamId) {
+        int size = 0;
+        for (long[] teams : teamsByPlayer.values()) {
+            for (long team : teams) {
+                if (team == teamId) {
+                    size++;
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns every rostered player with the team that rosters them. Player
+     * ownership is exclusive, so each player maps to one team.
+     *
+     * @return team ID keyed by player ID
+     */
+    public Map<Long, Long> owners() {
+        Map<Long, Long> owners = new HashMap<>();
+        teamsByPlayer.forEach((playerId, teams) -> owners.put(playerId, teams[0]));
+        return owners;
+    }
+
+    /**
+     * Records that a team added a player, once the current transaction commits.
+     */
+    public void playerAdded(long playerId, long teamId) {
+        afterCommit(() -> teamsByPlayer.merge(playerId, new long[] { teamId }, RosterIndex::union));
+    }
+
+    /**
+     * Records that a team dropped a player, once the current transaction commits.
+     */
+    public void playerRemoved(long playerId, long teamId) {
+        afterCommit(() -> teamsByPlayer.computeIfPresent(playerId, (id, teams) -> {
+            long[] remaining = Arrays.stream(teams).filter(t -> t != teamId).toArray();
+            return remaining.length == 0 ? null : remaining;
+        }));
+    }
+
+    private static long[] union(long[] a, long[] b) {
+        return LongStream.concat(Arrays.stream(a), Arrays.stream(b)).distinct().toArray();
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+}
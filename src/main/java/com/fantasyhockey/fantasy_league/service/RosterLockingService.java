@@ -1,78 +1,155 @@
 package com.fantasyhockey.fantasy_league.service;
 
+import com.fantasyhockey.fantasy_league.client.NhlApiClient;
 import com.fantasyhockey.fantasy_league.dto.NhlScheduleResponse;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * Service for managing roster locking based on NHL game schedules.
  * Prevents lineup changes for players whose games have already started.
- * 
- * TODO: Consider implementing caching (1-5 minutes) to reduce NHL API calls.
- * For single-user local development, direct API calls are acceptable.
+ *
+ * The schedule is fetched by a background refresher and turned into a lock
+ * timeline: puck-drop instants sorted in time, each with the set of teams
+ * locked from that moment on. Lock checks are a binary search over the
+ * timeline against the current time, so no request ever waits for the NHL
+ * API. If a refresh fails, the previous timeline stays in use for the rest
+ * of the local day it was built on; a timeline from an earlier day no longer
+ * knows which schedule days are current and is treated as empty until a
+ * refresh succeeds.
+ *
+ * Locks belong to an NHL schedule day, not to the local date: yesterday's
+ * schedule is included because its late games start after local midnight
+ * in Europe. A day's locks last until the first game of the next day
+ * starts, or until all of yesterday's games have finished.
  */
 @Service
 @RequiredArgsConstructor
 public class RosterLockingService {
 
-    private final NhlApiService nhlApiService;
+    private static final Logger logger = LoggerFactory.getLogger(RosterLockingService.class);
+
+    private static final Set<String> FINISHED_STATES = Set.of("FINAL", "OFF");
+
+    private final NhlApiClient nhlApiClient;
+
+    /**
+     * Latest timeline; replaced as a whole on every refresh.
+     */
+    private volatile LockTimeline timeline = LockTimeline.EMPTY;
+
+    /**
+     * Teams locked at one moment and the schedule day their games belong to.
+     *
+     * @param date  NHL schedule date of the locking games; null when nothing
+     *              is locked
+     * @param teams locked team abbreviations
+     */
+    public record Locks(LocalDate date, Set<String> teams) {
+
+        static final Locks NONE = new Locks(null, Set.of());
+    }
+
+    /**
+     * Lock timeline computed from one schedule fetch.
+     *
+     * @param builtFor     local date the timeline was built on; null for the
+     *                     empty timeline
+     * @param puckDrops    distinct game start instants, ascending
+     * @param lockedAfter  locks in force once {@code puckDrops[i]} has passed
+     *                     (cumulative within a schedule day), parallel to
+     *                     {@code puckDrops}
+     * @param gameStatuses today's game state per team abbreviation
+     */
+    private record LockTimeline(LocalDate builtFor, Instant[] puckDrops, List<Locks> lockedAfter,
+            Map<String, String> gameStatuses) {
+
+        static final LockTimeline EMPTY = new LockTimeline(null, new Instant[0], List.of(), Map.of());
+
+        boolean isCurrent(LocalDate today) {
+            return today.equals(builtFor);
+        }
+
+        Locks lockedAt(Instant now) {
+            int idx = Arrays.binarySearch(puckDrops, now);
+            // Exact hit counts as not yet started; otherwise take the last passed transition
+            int passed = idx >= 0 ? idx : -idx - 1;
+            return passed == 0 ? Locks.NONE : lockedAfter.get(passed - 1);
+        }
+    }
+
+    /**
+     * Refetches the schedule and rebuilds the lock timeline.
+     * Runs on startup and then every {@code app.lock.refresh-ms} milliseconds.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.lock.refresh-ms:60000}")
+    public void refresh() {
+        NhlScheduleResponse schedule = fetchTodaySchedule();
+        if (schedule == null || schedule.getGameWeek() == null) {
+            LockTimeline previous = timeline;
+            if (previous.builtFor() != null && !previous.isCurrent(LocalDate.now())) {
+                logger.warn("⚠️ Časová osa zámků je z {}, do úspěšného obnovení se nic nezamyká",
+                        previous.builtFor());
+            }
+            return;
+        }
+        timeline = buildTimeline(schedule, LocalDate.now());
+        logger.debug("🔒 Časová osa zámků obnovena ({} přechodů)", timeline.puckDrops().length);
+    }
 
     /**
      * Returns a set of NHL team abbreviations whose games have already started
-     * today.
+     * in the current schedule day.
      * Players on these teams cannot be added/removed from lineups until the next
      * day.
      * 
      * @return set of locked team abbreviations (e.g., "BOS", "NYR", "TOR")
      */
     public Set<String> getLockedTeams() {
-        Set<String> lockedTeams = new HashSet<>();
-        NhlScheduleResponse schedule = nhlApiService.getSchedule(LocalDate.now());
-
-        if (schedule == null || schedule.getGameWeek() == null) {
-            return lockedTeams;
-        }
-
-        ZonedDateTime now = ZonedDateTime.now();
+        return getLocks().teams();
+    }
 
-        for (NhlScheduleResponse.GameWeekDto day : schedule.getGameWeek()) {
-            if (day.getGames() == null)
-                continue;
+    /**
+     * Returns the teams locked right now together with the NHL schedule day
+     * of their games, read from one timeline so the two always match.
+     *
+     * @return current locks
+     */
+    public Locks getLocks() {
+        return currentTimeline().lockedAt(Instant.now());
+    }
 
-            for (NhlScheduleResponse.GameDto game : day.getGames()) {
-                // Check if game has started by comparing start time with current time
-                if (game.getStartTimeUTC() != null) {
-                    try {
-                        ZonedDateTime startTime = ZonedDateTime.parse(game.getStartTimeUTC(),
-                                DateTimeFormatter.ISO_DATE_TIME);
-
-                        // If game started (start time is in the past), lock both teams
-                        if (startTime.isBefore(now)) {
-                            if (game.getHomeTeam() != null)
-                                lockedTeams.add(game.getHomeTeam().getAbbrev());
-                            if (game.getAwayTeam() != null)
-                                lockedTeams.add(game.getAwayTeam().getAbbrev());
-                        }
-                    } catch (Exception e) {
-                        // Ignore parse errors and continue
-                    }
-                }
-            }
-        }
-        return lockedTeams;
+    /**
+     * Checks whether players of an NHL team are currently locked.
+     *
+     * @param teamAbbrev NHL team abbreviation
+     * @return true if the team's game has already started
+     */
+    public boolean isLocked(String teamAbbrev) {
+        return getLockedTeams().contains(teamAbbrev);
     }
 
     /**
      * Returns a map of team abbreviations to their current game status.
      * Used for the Live Page to visually indicate which teams are playing.
+     * Reflects the state as of the last refresh made today.
      * 
      * Game states:
      * - "FUT": Future game (not started)
@@ -85,33 +162,93 @@ public class RosterLockingService {
      * @return map of team abbreviation to game state
      */
     public Map<String, String> getTeamGameStatuses() {
-        Map<String, String> statuses = new HashMap<>();
-        NhlScheduleResponse schedule = nhlApiService.getSchedule(LocalDate.now());
+        return currentTimeline().gameStatuses();
+    }
 
-        if (schedule == null || schedule.getGameWeek() == null) {
-            return statuses;
-        }
+    // ==================== Private Helper Methods ====================
 
-        String todayStr = LocalDate.now().toString();
+    /**
+     * Returns the latest timeline, or the empty one if it was built on an
+     * earlier local day (every refresh since midnight failed).
+     */
+    private LockTimeline currentTimeline() {
+        LockTimeline current = timeline;
+        return current.isCurrent(LocalDate.now()) ? current : LockTimeline.EMPTY;
+    }
+
+    private LockTimeline buildTimeline(NhlScheduleResponse schedule, LocalDate today) {
+        String todayStr = today.toString();
+        String yesterdayStr = today.minusDays(1).toString();
+        TreeMap<Instant, Locks> teamsByPuckDrop = new TreeMap<>();
+        Map<String, String> statuses = new HashMap<>();
 
         for (NhlScheduleResponse.GameWeekDto day : schedule.getGameWeek()) {
-            // Only process today's games for live status visualization
-            if (!todayStr.equals(day.getDate()))
+            if (day.getGames() == null || day.getDate() == null || day.getDate().compareTo(yesterdayStr) < 0)
+                continue;
+
+            boolean isToday = todayStr.equals(day.getDate());
+            // A finished past day locks nothing any more
+            if (yesterdayStr.equals(day.getDate())
+                    && day.getGames().stream().allMatch(g -> FINISHED_STATES.contains(g.getGameState())))
                 continue;
 
-            if (day.getGames() != null) {
-                for (NhlScheduleResponse.GameDto game : day.getGames()) {
-                    String state = game.getGameState();
-                    String home = game.getHomeTeam() != null ? game.getHomeTeam().getAbbrev() : null;
-                    String away = game.getAwayTeam() != null ? game.getAwayTeam().getAbbrev() : null;
+            LocalDate date = LocalDate.parse(day.getDate());
+            for (NhlScheduleResponse.GameDto game : day.getGames()) {
+                String home = game.getHomeTeam() != null ? game.getHomeTeam().getAbbrev() : null;
+                String away = game.getAwayTeam() != null ? game.getAwayTeam().getAbbrev() : null;
+
+                // Only today's games are shown on the Live Page
+                if (isToday) {
+                    if (home != null)
+                        statuses.put(home, game.getGameState());
+                    if (away != null)
+                        statuses.put(away, game.getGameState());
+                }
 
+                if (game.getStartTimeUTC() == null)
+                    continue;
+                try {
+                    Instant puckDrop = ZonedDateTime.parse(game.getStartTimeUTC(), DateTimeFormatter.ISO_DATE_TIME)
+                            .toInstant();
+                    Set<String> teams = teamsByPuckDrop
+                            .computeIfAbsent(puckDrop, t -> new Locks(date, new HashSet<>())).teams();
                     if (home != null)
-                        statuses.put(home, state);
+                        teams.add(home);
                     if (away != null)
-                        statuses.put(away, state);
+                        teams.add(away);
+                } catch (Exception e) {
+                    // Ignore parse errors and continue
                 }
             }
         }
-        return statuses;
+
+        Instant[] puckDrops = teamsByPuckDrop.keySet().toArray(new Instant[0]);
+        List<Locks> lockedAfter = new ArrayList<>(puckDrops.length);
+        LocalDate lockDate = null;
+        Set<String> locked = new HashSet<>();
+        for (Locks drop : teamsByPuckDrop.values()) {
+            // The first game of a new schedule day releases the previous day's locks
+            if (!drop.date().equals(lockDate)) {
+                lockDate = drop.date();
+                locked = new HashSet<>();
+            }
+            locked.addAll(drop.teams());
+            lockedAfter.add(new Locks(lockDate, Collections.unmodifiableSet(new HashSet<>(locked))));
+        }
+        return new LockTimeline(today, puckDrops, lockedAfter, Collections.unmodifiableMap(statuses));
+    }
+
+    /**
+     * Fetches the NHL schedule from yesterday on.
+     *
+     * @return schedule response, or null if the NHL API is unavailable
+     */
+    private NhlScheduleResponse fetchTodaySchedule() {
+        try {
+            return nhlApiClient.getSchedule(LocalDate.now().minusDays(1));
+        } catch (Exception e) {
+            logger.error("Chyba při stahování dnešního rozvrhu: {}", e.getMessage());
+            return null;
+        }
     }
 }
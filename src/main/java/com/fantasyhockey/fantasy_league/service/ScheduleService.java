@@ -53,12 +53,14 @@ public class ScheduleService {
     private final GameWeekRepository gameWeekRepository;
     private final MatchupRepository matchupRepository;
     private final FantasyTeamRepository fantasyTeamRepository;
+    private final TeamWeekScoreService teamWeekScoreService;
 
     public ScheduleService(GameWeekRepository gameWeekRepository, MatchupRepository matchupRepository,
-            FantasyTeamRepository fantasyTeamRepository) {
+            FantasyTeamRepository fantasyTeamRepository, TeamWeekScoreService teamWeekScoreService) {
         this.gameWeekRepository = gameWeekRepository;
         this.matchupRepository = matchupRepository;
         this.fantasyTeamRepository = fantasyTeamRepository;
+        this.teamWeekScoreService = teamWeekScoreService;
     }
 
     // ==================== Public Methods ====================
@@ -73,6 +75,7 @@ public class ScheduleService {
         // Validate existing schedule - reset if Week 1 start date is incorrect
         gameWeekRepository.findByWeekNumber(1).ifPresent(week1 -> {
             if (!week1.getStartDate().equals(SEASON_START_DATE)) {
+                teamWeekScoreService.clear();
                 matchupRepository.deleteAll();
                 gameWeekRepository.deleteAll();
             }
@@ -85,6 +88,7 @@ public class ScheduleService {
 
         // Create game weeks
         List<GameWeek> weeks = createGameWeeks();
+        teamWeekScoreService.rebuild();
 
         // Generate matchups for all teams
         List<FantasyTeam> teams = fantasyTeamRepository.findAll();
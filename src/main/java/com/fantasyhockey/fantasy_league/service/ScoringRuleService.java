@@ -0,0 +1,194 @@
+package com.fantasyhockey.fantasy_league.service;
+
+import com.fantasyhockey.fantasy_league.model.ScoringRule;
+import com.fantasyhockey.fantasy_league.model.ScoringRuleSet;
+import com.fantasyhockey.fantasy_league.model.ScoringStat;
+import com.fantasyhockey.fantasy_league.repository.ScoringRuleSetRepository;
+import com.fantasyhockey.fantasy_league.service.PointsService.ScoringRules;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads the league's active scoring rules from the database and keeps them
+ * compiled as a {@link CompiledScoring} for PointsService.
+ *
+ * The first start seeds version 1 from the {@link ScoringRules} constants.
+ * Until the rules are loaded the same constants are used, so scoring never
+ * waits for the database. Loaded or published rules replace the compiled
+ * ones only once their transaction commits, so a rolled-back publish never
+ * scores anything.
+ */
+@Service
+@Order(0)
+@RequiredArgsConstructor
+public class ScoringRuleService implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScoringRuleService.class);
+
+    /**
+     * Key of the only league this application runs.
+     */
+    public static final String DEFAULT_LEAGUE = "default";
+
+    private final ScoringRuleSetRepository ruleSetRepository;
+
+    private volatile CompiledScoring current = CompiledScoring.compile(0, defaultRules());
+
+    /**
+     * Loads (and on first start seeds) the active rules.
+     *
+     * @param args command line arguments (not used)
+     */
+    @Override
+    public void run(String... args) {
+        reload();
+    }
+
+    /**
+     * Returns the evaluator of the active scoring rules.
+     *
+     * @return compiled rules
+     */
+    public CompiledScoring current() {
+        return current;
+    }
+
+    /**
+     * Returns the active rules as one rule per statistic, for editing. Weights
+     * of several rules for the same statistic are added up, so publishing
+     * the result unchanged scores exactly like the active rules.
+     *
+     * @return rules of every {@link ScoringStat} in declaration order
+     */
+    @Transactional
+    public List<ScoringRule> getEditableRules() {
+        List<ScoringRule> active = ruleSetRepository.findFirstByLeagueKeyAndActiveTrueOrderByVersionDesc(DEFAULT_LEAGUE)
+                .map(ScoringRuleSet::getRules)
+                .orElseGet(ScoringRuleService::defaultRules);
+
+        Map<ScoringStat, ScoringRule> byStat = new EnumMap<>(ScoringStat.class);
+        for (ScoringStat stat : ScoringStat.values()) {
+            byStat.put(stat, new ScoringRule(stat, 0, 0, 0));
+        }
+        for (ScoringRule rule : active) {
+            ScoringRule merged = byStat.get(rule.getStat());
+            merged.setWeight(merged.getWeight() + rule.getWeight());
+            if (rule.getThreshold() > 0) {
+                merged.setThreshold(rule.getThreshold());
+                merged.setBonus(rule.getBonus());
+            }
+        }
+        return new ArrayList<>(byStat.values());
+    }
+
+    /**
+     * Reloads the active rule set of the league from the database. If no
+     * version is active, the default rules are saved as the next version
+     * (version 1 on first start).
+     */
+    @Transactional
+    public void reload() {
+        ScoringRuleSet active = ruleSetRepository.findFirstByLeagueKeyAndActiveTrueOrderByVersionDesc(DEFAULT_LEAGUE)
+                .orElseGet(() -> ruleSetRepository.save(newRuleSet(nextVersion(), defaultRules())));
+        swapAfterCommit(CompiledScoring.compile(active.getVersion(), active.getRules()));
+        logger.info("📐 Bodovací pravidla verze {} načtena ({} pravidel)", active.getVersion(),
+                active.getRules().size());
+    }
+
+    /**
+     * Publishes a new version of the league's rules and makes it active.
+     * Already recorded points are not changed; use the rescoring job for that.
+     *
+     * @param rules the new rules
+     * @return the saved rule set
+     * @throws IllegalArgumentException if the rules cannot be compiled
+     */
+    @Transactional
+    public ScoringRuleSet publish(List<ScoringRule> rules) {
+        // Validate before anything is written
+        CompiledScoring.compile(0, rules);
+
+        int nextVersion = nextVersion();
+        for (ScoringRuleSet previous : ruleSetRepository.findByLeagueKeyAndActiveTrue(DEFAULT_LEAGUE)) {
+            previous.setActive(false);
+        }
+
+        ScoringRuleSet saved = ruleSetRepository.save(newRuleSet(nextVersion, rules));
+        swapAfterCommit(CompiledScoring.compile(saved.getVersion(), saved.getRules()));
+        logger.info("📐 Publikována bodovací pravidla verze {}", saved.getVersion());
+        return saved;
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private int nextVersion() {
+        return ruleSetRepository.findFirstByLeagueKeyOrderByVersionDesc(DEFAULT_LEAGUE)
+                .map(set -> set.getVersion() + 1)
+                .orElse(1);
+    }
+
+    /**
+     * Makes compiled rules current once the surrounding transaction commits
+     * (immediately without one). Commits of concurrent publishes can finish
+     * in either order, so an older version never replaces a newer one.
+     */
+    private void swapAfterCommit(CompiledScoring compiled) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            swap(compiled);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                swap(compiled);
+            }
+        });
+    }
+
+    private synchronized void swap(CompiledScoring compiled) {
+        if (compiled.getVersion() >= current.getVersion()) {
+            current = compiled;
+        }
+    }
+
+    private ScoringRuleSet newRuleSet(int version, List<ScoringRule> rules) {
+        ScoringRuleSet set = new ScoringRuleSet();
+        set.setLeagueKey(DEFAULT_LEAGUE);
+        set.setVersion(version);
+        set.setActive(true);
+        set.setCreatedAt(LocalDateTime.now());
+        set.setRules(new ArrayList<>(rules));
+        return set;
+    }
+
+    /**
+     * The original hard-coded scoring system as rules.
+     */
+    private static List<ScoringRule> defaultRules() {
+        return List.of(
+                new ScoringRule(ScoringStat.GOALS, ScoringRules.POINTS_PER_GOAL,
+                        ScoringRules.HATTRICK_THRESHOLD, ScoringRules.POINTS_PER_HATTRICK),
+                new ScoringRule(ScoringStat.ASSISTS, ScoringRules.POINTS_PER_ASSIST, 0, 0),
+                new ScoringRule(ScoringStat.PLUS_MINUS, ScoringRules.POINTS_PER_PLUS_MINUS, 0, 0),
+                new ScoringRule(ScoringStat.SHOTS, ScoringRules.POINTS_PER_SHOT, 0, 0),
+                new ScoringRule(ScoringStat.BLOCKED_SHOTS, ScoringRules.POINTS_PER_BLOCK, 0, 0),
+                new ScoringRule(ScoringStat.HITS, ScoringRules.POINTS_PER_HIT, 0, 0),
+                new ScoringRule(ScoringStat.PIM, ScoringRules.POINTS_PER_PIM, 0, 0),
+                new ScoringRule(ScoringStat.SAVES, ScoringRules.POINTS_PER_SAVE, 0, 0),
+                new ScoringRule(ScoringStat.GOALS_AGAINST, ScoringRules.POINTS_PER_GOAL_AGAINST, 0, 0),
+                new ScoringRule(ScoringStat.SHUTOUTS, ScoringRules.POINTS_PER_SHUTOUT, 0, 0));
+    }
+}
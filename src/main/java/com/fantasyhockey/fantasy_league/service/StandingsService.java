@@ -0,0 +1,151 @@
+package com.fantasyhockey.fantasy_league.service;
+
+import com.fantasyhockey.fantasy_league.model.FantasyTeam;
+import com.fantasyhockey.fantasy_league.model.GameWeek;
+import com.fantasyhockey.fantasy_league.model.Matchup;
+import com.fantasyhockey.fantasy_league.repository.FantasyTeamRepository;
+import com.fantasyhockey.fantasy_league.repository.MatchupRepository;
+import com.fantasyhockey.fantasy_league.repository.TeamWeekScoreRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Maintains league standings (wins, losses, OT results and league points)
+ * as incrementally updated team state.
+ *
+ * The result of each matchup is applied exactly once, after its game week
+ * has been marked completed. The {@code resultApplied} flag on the matchup
+ * records that, so the leaderboard only has to read the teams.
+ *
+ * Scoring:
+ * - Win: 3 points, loss: 0 points
+ * - Tie in weekly score goes to overtime, decided by the best single player
+ * of the week (home team wins a tie there too): OT win 2 points, OT loss 1
+ * point
+ */
+@Service
+@RequiredArgsConstructor
+public class StandingsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StandingsService.class);
+
+    private static final int POINTS_FOR_WIN = 3;
+    private static final int POINTS_FOR_OT_WIN = 2;
+    private static final int POINTS_FOR_OT_LOSS = 1;
+
+    private final MatchupRepository matchupRepository;
+    private final FantasyTeamRepository teamRepository;
+    private final TeamWeekScoreRepository teamWeekScoreRepository;
+    private final MatchupService matchupService;
+
+    /**
+     * Applies results of all matchups whose game week has completed and
+     * whose result has not been applied yet.
+     * Final scores are copied from the weekly team scores first.
+     *
+     * @return number of matchups applied
+     */
+    @Transactional
+    public int applyCompletedWeeks() {
+        List<Matchup> pending = matchupRepository.findPendingCompletedMatchups();
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        matchupService.copyScores(pending);
+
+        Set<FantasyTeam> touched = new LinkedHashSet<>();
+        for (Matchup matchup : pending) {
+            applyResult(matchup);
+            matchup.setResultApplied(true);
+            touched.add(matchup.getHomeTeam());
+            touched.add(matchup.getAwayTeam());
+        }
+
+        matchupRepository.saveAll(pending);
+        teamRepository.saveAll(touched);
+        logger.info("🏆 Započítáno {} výsledků zápasů do tabulky", pending.size());
+        return pending.size();
+    }
+
+    /**
+     * Resets the standings of every team and applies all completed matchups
+     * again from scratch.
+     */
+    @Transactional
+    public void rebuild() {
+        List<FantasyTeam> teams = teamRepository.findAll();
+        for (FantasyTeam team : teams) {
+            team.setWins(0);
+            team.setLosses(0);
+            team.setOtWins(0);
+            team.setOtLosses(0);
+            team.setLeaguePoints(0);
+        }
+        teamRepository.saveAll(teams);
+        matchupRepository.resetResultApplied();
+
+        int applied = applyCompletedWeeks();
+        logger.info("🏆 Tabulka přepočítána ({} zápasů)", applied);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private void applyResult(Matchup m) {
+        FantasyTeam home = m.getHomeTeam();
+        FantasyTeam away = m.getAwayTeam();
+        if (home == null || away == null) {
+            return;
+        }
+
+        if (m.getHomeScore() > m.getAwayScore()) {
+            recordWin(home, away);
+            m.setWinner(home);
+        } else if (m.getAwayScore() > m.getHomeScore()) {
+            recordWin(away, home);
+            m.setWinner(away);
+        } else {
+            // TIE -> Overtime: best single player of the week, home advantage on equality
+            GameWeek week = m.getGameWeek();
+            long homeBest = getBestPlayerPoints(home, week);
+            long awayBest = getBestPlayerPoints(away, week);
+
+            if (awayBest > homeBest) {
+                recordOvertimeWin(away, home);
+                m.setWinner(away);
+            } else {
+                recordOvertimeWin(home, away);
+                m.setWinner(home);
+            }
+        }
+    }
+
+    private void recordWin(FantasyTeam winner, FantasyTeam loser) {
+        winner.setWins(winner.getWins() + 1);
+        winner.setLeaguePoints(winner.getLeaguePoints() + POINTS_FOR_WIN);
+        loser.setLosses(loser.getLosses() + 1);
+    }
+
+    private void recordOvertimeWin(FantasyTeam winner, FantasyTeam loser) {
+        winner.setOtWins(winner.getOtWins() + 1);
+        winner.setLeaguePoints(winner.getLeaguePoints() + POINTS_FOR_OT_WIN);
+        loser.setOtLosses(loser.getOtLosses() + 1);
+        loser.setLeaguePoints(loser.getLeaguePoints() + POINTS_FOR_OT_LOSS);
+    }
+
+    /**
+     * Highest weekly fantasy point total of a single player of the team,
+     * counted by the lineup snapshots like the weekly score itself.
+     * Only needed for ties, so it is computed on demand with one query.
+     */
+    private long getBestPlayerPoints(FantasyTeam team, GameWeek week) {
+        return teamWeekScoreRepository.findBestPlayerPoints(team.getId(), week.getStartDate(), week.getEndDate());
+    }
+}
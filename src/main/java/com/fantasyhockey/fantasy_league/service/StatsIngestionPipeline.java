@@ -0,0 +1,283 @@
+package com.fantasyhockey.fantasy_league.service;
+
+import com.fantasyhockey.fantasy_league.client.NhlApiClient;
+import com.fantasyhockey.fantasy_league.dto.GameBoxscore;
+import com.fantasyhockey.fantasy_league.dto.ScoredGame;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Staged pipeline that imports boxscores of NHL games.
+ *
+ * Stages and their workers:
+ * 1. fetch - virtual threads downloading boxscores and extracting the stat
+ * lines with the streaming parser as the bytes arrive (network I/O); the raw
+ * JSON is never held in memory
+ * 2. score - fantasy point calculation (CPU)
+ * 3. persist - drains scored games in batches and writes each batch in one
+ * transaction (database)
+ *
+ * Stages are connected by bounded queues. A full queue blocks the stage in
+ * front of it, so a slow database throttles scoring and fetching instead of
+ * piling boxscores up in memory. Network I/O, scoring and database writes
+ * overlap instead of running one game after another.
+ *
+ * The workers and queues are started once and shared by all callers, so
+ * importing a single game costs no thread startup. Each call waits only for
+ * its own games.
+ */
+@Service
+@RequiredArgsConstructor
+public class StatsIngestionPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatsIngestionPipeline.class);
+
+    private final NhlApiClient nhlApiClient;
+    private final PointsService pointsService;
+    private final RequestRateLimiter rateLimiter;
+
+    @Value("${app.nhl.import.max-concurrency:8}")
+    private int fetchConcurrency;
+
+    @Value("${app.ingest.score-threads:2}")
+    private int scoreThreads;
+
+    @Value("${app.ingest.persist-threads:2}")
+    private int persistThreads;
+
+    @Value("${app.ingest.persist-batch-size:16}")
+    private int persistBatchSize;
+
+    @Value("${app.ingest.queue-capacity:32}")
+    private int queueCapacity;
+
+    private Semaphore fetchPermits;
+    private BlockingQueue<Work<GameBoxscore>> fetched;
+    private BlockingQueue<Work<ScoredGame>> scored;
+    private final List<Thread> workers = new ArrayList<>();
+
+    /**
+     * A game waiting to be imported.
+     *
+     * @param gameId NHL game ID
+     * @param date   date the game was played
+     */
+    public record GameRef(long gameId, LocalDate date) {
+    }
+
+    /**
+     * One game on its way through the stages.
+     *
+     * @param job     the ingest call the game belongs to
+     * @param game    the game
+     * @param payload output of the previous stage
+     */
+    private record Work<T>(Job job, GameRef game, T payload) {
+    }
+
+    /**
+     * Progress of one ingest call. Every game leaves the pipeline exactly
+     * once, persisted or not.
+     */
+    private static final class Job {
+
+        private final CountDownLatch remaining;
+        private final AtomicInteger persisted = new AtomicInteger();
+
+        Job(int games) {
+            remaining = new CountDownLatch(games);
+        }
+
+        void finish(boolean wasPersisted) {
+            if (wasPersisted) {
+                persisted.incrementAndGet();
+            }
+            remaining.countDown();
+        }
+    }
+
+    /**
+     * Creates the queues and starts the score and persist workers.
+     */
+    @PostConstruct
+    public void start() {
+        fetchPermits = new Semaphore(Math.max(1, fetchConcurrency));
+        fetched = new ArrayBlockingQueue<>(queueCapacity);
+        scored = new ArrayBlockingQueue<>(queueCapacity);
+
+        startStage("score", scoreThreads, fetched, scored,
+                w -> pointsService.scoreGame(w.payload(), w.game().date()));
+        startPersisters();
+    }
+
+    /**
+     * Stops all workers. Games still in flight are dropped.
+     */
+    @PreDestroy
+    public void stop() {
+        workers.forEach(Thread::interrupt);
+    }
+
+    /**
+     * Imports the given games and blocks until each of them has been
+     * persisted or dropped.
+     * Failures of individual games are logged and do not stop the pipeline.
+     *
+     * @param games games to import
+     * @return number of games persisted
+     */
+    public int ingest(List<GameRef> games) {
+        if (games.isEmpty()) {
+            return 0;
+        }
+
+        Job job = new Job(games.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (GameRef game : games) {
+                executor.submit(() -> fetch(job, game));
+            }
+        }
+
+        try {
+            job.remaining.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Ingestion interrupted", e);
+        }
+
+        logger.info("🏁 Pipeline: zpracováno {} z {} zápasů", job.persisted.get(), games.size());
+        return job.persisted.get();
+    }
+
+    // ==================== Stages ====================
+
+    /**
+     * Fetch stage: downloads and parses one boxscore on the calling virtual
+     * thread. A fetch holds its concurrency permit until the boxscore is
+     * handed to the score queue, so a full queue also stops new downloads.
+     * Games that are not official yet leave the pipeline unpersisted: their
+     * lines would block the official ones through the unique (player_id,
+     * game_id) constraint, and live scoring already counts them.
+     */
+    private void fetch(Job job, GameRef game) {
+        boolean queued = false;
+        try {
+            fetchPermits.acquire();
+            try {
+                rateLimiter.acquire();
+                GameBoxscore boxscore = nhlApiClient.getBoxscore(game.gameId());
+                if (boxscore != null && boxscore.isOfficial()) {
+                    fetched.put(new Work<>(job, game, boxscore));
+                    queued = true;
+                } else if (boxscore != null) {
+                    logger.info("⏳ Zápas {} ještě není oficiální ({}), přeskakuji", game.gameId(),
+                            boxscore.gameState());
+                }
+            } finally {
+                fetchPermits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.error("Chyba při stahování zápasu {}: {}", game.gameId(), e.getMessage());
+        } finally {
+            if (!queued) {
+                job.finish(false);
+            }
+        }
+    }
+
+    /**
+     * Starts the workers of a transforming stage. A game whose step fails or
+     * yields nothing leaves the pipeline unpersisted.
+     */
+    private <I, O> void startStage(String name, int count, BlockingQueue<Work<I>> in,
+            BlockingQueue<Work<O>> out, Function<Work<I>, O> step) {
+        for (int i = 0; i < Math.max(1, count); i++) {
+            workers.add(Thread.ofPlatform().daemon().name("ingest-" + name + "-" + i).start(() -> {
+                try {
+                    while (true) {
+                        Work<I> work = in.take();
+                        O result;
+                        try {
+                            result = step.apply(work);
+                        } catch (RuntimeException e) {
+                            logger.error("Chyba ve fázi {} zápasu {}: {}", name, work.game().gameId(),
+                                    e.getMessage());
+                            result = null;
+                        }
+                        if (result == null) {
+                            work.job().finish(false);
+                        } else {
+                            out.put(new Work<>(work.job(), work.game(), result));
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+    }
+
+    /**
+     * Persist stage: each worker drains up to persist-batch-size scored games
+     * at a time and writes them in one transaction. If that fails, the games
+     * of the batch are retried one by one, so one bad game only loses itself.
+     */
+    private void startPersisters() {
+        for (int i = 0; i < Math.max(1, persistThreads); i++) {
+            workers.add(Thread.ofPlatform().daemon().name("ingest-persist-" + i).start(() -> {
+                List<Work<ScoredGame>> batch = new ArrayList<>(persistBatchSize);
+                try {
+                    while (true) {
+                        batch.clear();
+                        batch.add(scored.take());
+                        scored.drainTo(batch, Math.max(0, persistBatchSize - 1));
+                        persist(batch);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+    }
+
+    private void persist(List<Work<ScoredGame>> batch) {
+        if (batch.size() > 1) {
+            try {
+                pointsService.recordScoredGames(batch.stream().map(Work::payload).toList());
+                batch.forEach(w -> w.job().finish(true));
+                return;
+            } catch (RuntimeException e) {
+                logger.warn("Dávka {} zápasů se neuložila ({}), ukládám po jednom", batch.size(), e.getMessage());
+            }
+        }
+
+        for (Work<ScoredGame> work : batch) {
+            try {
+                pointsService.recordScoredGames(List.of(work.payload()));
+                work.job().finish(true);
+            } catch (RuntimeException e) {
+                logger.error("Chyba při ukládání zápasu {}: {}", work.game().gameId(), e.getMessage());
+                work.job().finish(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.fantasyhockey.fantasy_league.service;
+
+import com.fantasyhockey.fantasy_league.model.GameWeek;
+import com.fantasyhockey.fantasy_league.repository.TeamWeekScoreRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maintains the team_week_score aggregate: fantasy points of each team per
+ * game week.
+ * Only players in the team's lineup snapshot of the day score (see
+ * {@link LineupSnapshotService}). Stat ingestion adds points as rows are
+ * recorded; matchup scoring reads a whole week with one query regardless of
+ * roster sizes.
+ */
+@Service
+@RequiredArgsConstructor
+public class TeamWeekScoreService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TeamWeekScoreService.class);
+
+    private final TeamWeekScoreRepository weekScoreRepository;
+    private final LineupSnapshotService lineupSnapshotService;
+
+    /**
+     * Recomputes all weekly team scores from recorded stats and the daily
+     * snapshots.
+     */
+    @Transactional
+    public void rebuild() {
+        lineupSnapshotService.freezeMissingRosters();
+        weekScoreRepository.rebuild();
+        logger.info("📊 Týdenní skóre týmů přepočítáno");
+    }
+
+    /**
+     * Adds points scored on a day to the weekly scores of the teams that had
+     * the players in that day's snapshot.
+     * Must run inside the transaction that records the stats, after
+     * {@link LineupSnapshotService#freezeMissingRosters(LocalDate)}.
+     *
+     * @param date           day the points were scored
+     * @param pointsByPlayer points to add in hundredths, keyed by player ID
+     */
+    public void addPoints(LocalDate date, Map<Long, Long> pointsByPlayer) {
+        weekScoreRepository.addPoints(date, pointsByPlayer);
+    }
+
+    /**
+     * Returns the weekly scores of all teams.
+     *
+     * @param week the game week
+     * @return points in hundredths keyed by team ID; teams without points
+     *         are absent
+     */
+    public Map<Long, Long> getScoresForWeek(GameWeek week) {
+        Map<Long, Long> scores = new HashMap<>();
+        for (Object[] row : weekScoreRepository.findScoresForWeek(week)) {
+            scores.put((Long) row[0], (Long) row[1]);
+        }
+        return scores;
+    }
+
+    /**
+     * Deletes all weekly scores.
+     */
+    public void clear() {
+        weekScoreRepository.deleteAllInBatch();
+    }
+}
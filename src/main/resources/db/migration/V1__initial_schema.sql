@@ -0,0 +1,159 @@
+-- Initial schema of every entity in the model package.
+-- Databases created earlier by Hibernate's ddl-auto=update are baselined at
+-- this version (spring.flyway.baseline-on-migrate) and continue with V2.
+
+-- ==================== Users & Teams ====================
+
+CREATE TABLE users (
+    id       bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username varchar(255) NOT NULL UNIQUE,
+    email    varchar(255) NOT NULL,
+    password varchar(255) NOT NULL,
+    role     varchar(255)
+);
+
+CREATE TABLE fantasy_team (
+    id                   bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    team_name            varchar(255),
+    logo_url             varchar(255),
+    total_fantasy_points bigint NOT NULL DEFAULT 0,
+    wins                 integer DEFAULT 0 NOT NULL,
+    losses               integer DEFAULT 0 NOT NULL,
+    ot_wins              integer DEFAULT 0 NOT NULL,
+    ot_losses            integer DEFAULT 0 NOT NULL,
+    league_points        integer DEFAULT 0 NOT NULL,
+    user_id              bigint UNIQUE REFERENCES users (id)
+);
+
+-- ==================== Players ====================
+
+CREATE TABLE players (
+    id           bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nhl_id       bigint UNIQUE,
+    first_name   varchar(255),
+    last_name    varchar(255),
+    position     varchar(255),
+    team_name    varchar(255),
+    headshot_url varchar(255),
+    injured      boolean DEFAULT false NOT NULL
+);
+
+CREATE INDEX idx_players_team_name ON players (team_name);
+
+CREATE TABLE team_players (
+    team_id   bigint NOT NULL REFERENCES fantasy_team (id),
+    player_id bigint NOT NULL REFERENCES players (id)
+);
+
+CREATE INDEX idx_team_players_team ON team_players (team_id);
+CREATE INDEX idx_team_players_player ON team_players (player_id);
+
+CREATE TABLE lineup_spot (
+    id        bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    team_id   bigint REFERENCES fantasy_team (id),
+    player_id bigint REFERENCES players (id),
+    slot_name varchar(255)
+);
+
+CREATE INDEX idx_lineup_spot_team ON lineup_spot (team_id);
+
+-- ==================== Stats ====================
+
+CREATE TABLE player_stats (
+    id             bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    player_id      bigint REFERENCES players (id),
+    date           date,
+    game_id        bigint,
+    goals          integer NOT NULL,
+    assists        integer NOT NULL,
+    plus_minus     integer DEFAULT 0 NOT NULL,
+    shots          integer DEFAULT 0 NOT NULL,
+    blocked_shots  integer DEFAULT 0 NOT NULL,
+    hits           integer DEFAULT 0 NOT NULL,
+    pim            integer DEFAULT 0 NOT NULL,
+    saves          integer NOT NULL,
+    shots_against  integer NOT NULL,
+    goals_against  integer NOT NULL,
+    win            boolean NOT NULL,
+    fantasy_points bigint NOT NULL,
+    CONSTRAINT uk_player_stats_player_game UNIQUE (player_id, game_id)
+);
+
+-- Player/date-range lookups and weekly sums read only this index
+CREATE INDEX idx_player_stats_player_date ON player_stats (player_id, date) INCLUDE (fantasy_points);
+-- Aggregate rebuilds join stats to game weeks by date
+CREATE INDEX idx_player_stats_date ON player_stats (date);
+
+-- ==================== Schedule ====================
+
+CREATE TABLE game_week (
+    id           bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    week_number  integer NOT NULL,
+    start_date   date,
+    end_date     date,
+    is_current   boolean NOT NULL,
+    is_completed boolean NOT NULL
+);
+
+CREATE INDEX idx_game_week_dates ON game_week (start_date, end_date);
+
+CREATE TABLE matchup (
+    id             bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    game_week_id   bigint REFERENCES game_week (id),
+    home_team_id   bigint REFERENCES fantasy_team (id),
+    away_team_id   bigint REFERENCES fantasy_team (id),
+    home_score     bigint NOT NULL,
+    away_score     bigint NOT NULL,
+    winner_id      bigint REFERENCES fantasy_team (id),
+    result_applied boolean DEFAULT false NOT NULL
+);
+
+CREATE INDEX idx_matchup_game_week ON matchup (game_week_id);
+
+-- ==================== Aggregates ====================
+
+CREATE TABLE team_week_score (
+    id           bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    team_id      bigint NOT NULL REFERENCES fantasy_team (id),
+    game_week_id bigint NOT NULL REFERENCES game_week (id),
+    points       bigint NOT NULL,
+    UNIQUE (team_id, game_week_id)
+);
+
+-- No foreign key: rows are rebuilt in bulk independently of players
+CREATE TABLE player_season_totals (
+    player_id      bigint PRIMARY KEY,
+    games_played   integer NOT NULL,
+    goals          integer NOT NULL,
+    assists        integer NOT NULL,
+    plus_minus     integer NOT NULL,
+    shots          integer NOT NULL,
+    blocked_shots  integer NOT NULL,
+    hits           integer NOT NULL,
+    pim            integer NOT NULL,
+    saves          integer NOT NULL,
+    shots_against  integer NOT NULL,
+    goals_against  integer NOT NULL,
+    fantasy_points bigint NOT NULL
+);
+
+-- ==================== Scoring Rules ====================
+
+CREATE TABLE scoring_rule_set (
+    id         bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    league_key varchar(255) NOT NULL,
+    version    integer NOT NULL,
+    active     boolean NOT NULL,
+    created_at timestamp(6),
+    UNIQUE (league_key, version)
+);
+
+CREATE TABLE scoring_rule (
+    rule_set_id bigint NOT NULL REFERENCES scoring_rule_set (id),
+    stat        varchar(255) NOT NULL,
+    weight      double precision NOT NULL,
+    threshold   integer NOT NULL,
+    bonus       double precision NOT NULL
+);
+
+CREATE INDEX idx_scoring_rule_rule_set ON scoring_rule (rule_set_id);
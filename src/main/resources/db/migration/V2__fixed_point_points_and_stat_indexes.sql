@@ -0,0 +1,88 @@
+-- Brings databases baselined from a ddl-auto=update schema up to V1.
+-- Every statement is a no-op on a schema created by V1.
+
+-- Tables and columns that did not exist before Flyway took over the schema.
+-- Databases last run with ddl-auto=update may have none, some or all of them.
+ALTER TABLE matchup ADD COLUMN IF NOT EXISTS result_applied boolean DEFAULT false NOT NULL;
+
+CREATE TABLE IF NOT EXISTS team_week_score (
+    id           bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    team_id      bigint NOT NULL REFERENCES fantasy_team (id),
+    game_week_id bigint NOT NULL REFERENCES game_week (id),
+    points       bigint NOT NULL,
+    UNIQUE (team_id, game_week_id)
+);
+
+CREATE TABLE IF NOT EXISTS player_season_totals (
+    player_id      bigint PRIMARY KEY,
+    games_played   integer NOT NULL,
+    goals          integer NOT NULL,
+    assists        integer NOT NULL,
+    plus_minus     integer NOT NULL,
+    shots          integer NOT NULL,
+    blocked_shots  integer NOT NULL,
+    hits           integer NOT NULL,
+    pim            integer NOT NULL,
+    saves          integer NOT NULL,
+    shots_against  integer NOT NULL,
+    goals_against  integer NOT NULL,
+    fantasy_points bigint NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS scoring_rule_set (
+    id         bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    league_key varchar(255) NOT NULL,
+    version    integer NOT NULL,
+    active     boolean NOT NULL,
+    created_at timestamp(6),
+    UNIQUE (league_key, version)
+);
+
+CREATE TABLE IF NOT EXISTS scoring_rule (
+    rule_set_id bigint NOT NULL REFERENCES scoring_rule_set (id),
+    stat        varchar(255) NOT NULL,
+    weight      double precision NOT NULL,
+    threshold   integer NOT NULL,
+    bonus       double precision NOT NULL
+);
+
+-- Fantasy points are stored as fixed-point hundredths (bigint); older schemas
+-- kept whole points as integer, or double precision for matchup scores.
+DO $$
+DECLARE
+    col record;
+BEGIN
+    FOR col IN
+        SELECT table_name, column_name FROM information_schema.columns
+        WHERE table_schema = current_schema()
+          AND data_type <> 'bigint'
+          AND (table_name, column_name) IN (
+              ('player_stats', 'fantasy_points'),
+              ('player_season_totals', 'fantasy_points'),
+              ('fantasy_team', 'total_fantasy_points'),
+              ('team_week_score', 'points'),
+              ('matchup', 'home_score'),
+              ('matchup', 'away_score'))
+    LOOP
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN %I TYPE bigint USING round(%I * 100)',
+                col.table_name, col.column_name, col.column_name);
+    END LOOP;
+END $$;
+
+-- One stat row per player and game; keep the oldest of any duplicates left
+-- by the old exists-then-insert check
+DELETE FROM player_stats a USING player_stats b
+WHERE a.player_id = b.player_id AND a.game_id = b.game_id AND a.id > b.id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_player_stats_player_game ON player_stats (player_id, game_id);
+CREATE INDEX IF NOT EXISTS idx_player_stats_player_date ON player_stats (player_id, date) INCLUDE (fantasy_points);
+CREATE INDEX IF NOT EXISTS idx_player_stats_date ON player_stats (date);
+
+-- Foreign key lookups that ddl-auto=update never indexed
+CREATE INDEX IF NOT EXISTS idx_players_team_name ON players (team_name);
+CREATE INDEX IF NOT EXISTS idx_team_players_team ON team_players (team_id);
+CREATE INDEX IF NOT EXISTS idx_team_players_player ON team_players (player_id);
+CREATE INDEX IF NOT EXISTS idx_lineup_spot_team ON lineup_spot (team_id);
+CREATE INDEX IF NOT EXISTS idx_game_week_dates ON game_week (start_date, end_date);
+CREATE INDEX IF NOT EXISTS idx_matchup_game_week ON matchup (game_week_id);
+CREATE INDEX IF NOT EXISTS idx_scoring_rule_rule_set ON scoring_rule (rule_set_id);
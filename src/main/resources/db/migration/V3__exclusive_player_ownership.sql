@@ -0,0 +1,21 @@
+-- A player can be on at most one fantasy team (the application runs a single
+-- league). Draft claims insert with ON CONFLICT (player_id) DO NOTHING, so
+-- the constraint decides between simultaneous claims.
+
+-- Resolve ownership left ambiguous by the old check-then-insert draft: the
+-- team with the lowest ID keeps the player, other teams lose the player and
+-- any lineup spot holding them
+DELETE FROM lineup_spot ls
+USING team_players tp
+WHERE ls.player_id = tp.player_id
+  AND ls.team_id = tp.team_id
+  AND EXISTS (SELECT 1 FROM team_players o WHERE o.player_id = tp.player_id AND o.team_id < tp.team_id);
+
+DELETE FROM team_players tp
+USING team_players o
+WHERE tp.player_id = o.player_id
+  AND (tp.team_id > o.team_id OR (tp.team_id = o.team_id AND tp.ctid > o.ctid));
+
+DROP INDEX IF EXISTS idx_team_players_player;
+
+ALTER TABLE team_players ADD CONSTRAINT uk_team_players_player UNIQUE (player_id);
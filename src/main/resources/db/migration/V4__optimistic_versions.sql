@@ -0,0 +1,7 @@
+-- Optimistic locking: every entity write of a team, lineup spot or matchup
+-- checks and bumps its version, so concurrent edits fail instead of
+-- silently overwriting each other. Set-based writes of matchup scores bump
+-- the version too.
+ALTER TABLE fantasy_team ADD COLUMN version bigint NOT NULL DEFAULT 0;
+ALTER TABLE lineup_spot ADD COLUMN version bigint NOT NULL DEFAULT 0;
+ALTER TABLE matchup ADD COLUMN version bigint NOT NULL DEFAULT 0;
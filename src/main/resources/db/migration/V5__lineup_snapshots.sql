@@ -0,0 +1,15 @@
+-- Lineups frozen per day at roster lock transitions. active_players is a
+-- bitset of player IDs: bit n (get_bit numbering, least significant bit of
+-- the first byte is bit 0) is set when player n was in the team's lineup.
+-- Weekly scores and team totals count a stat line only if its player's bit
+-- is set in the team's snapshot of that day; a team-day without a row
+-- counts nothing. Team-days that never got a lineup snapshot (e.g. before
+-- snapshots existed) have the roster of the time stored here as their
+-- snapshot before any points are credited, so the queries need no
+-- fallback.
+CREATE TABLE lineup_snapshot (
+    date           date   NOT NULL,
+    team_id        bigint NOT NULL REFERENCES fantasy_team (id),
+    active_players bytea  NOT NULL,
+    PRIMARY KEY (date, team_id)
+);
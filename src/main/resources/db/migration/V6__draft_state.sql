@@ -0,0 +1,7 @@
+-- Progress of the live draft, so a draft interrupted by a restart can be
+-- resumed at the pick it stopped on. One row per league; the picks
+-- themselves live in team_players.
+CREATE TABLE draft_state (
+    league_key  varchar(255) PRIMARY KEY,
+    pick_number integer      NOT NULL
+);
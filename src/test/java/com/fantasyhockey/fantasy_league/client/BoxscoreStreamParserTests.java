@@ -0,0 +1,72 @@
+package com.fantasyhockey.fantasy_league.client;
+
+import com.fantasyhockey.fantasy_league.dto.GameBoxscore;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoxscoreStreamParserTests {
+
+	private final BoxscoreStreamParser parser = new BoxscoreStreamParser();
+
+	@Test
+	void readsScoresAndStatLines() throws Exception {
+		GameBoxscore boxscore = parse("""
+				{"id": 2024020001, "gameState": "OFF",
+				 "awayTeam": {"abbrev": "TOR", "score": 2},
+				 "homeTeam": {"abbrev": "MTL", "score": 3},
+				 "playerByGameStats": {
+				   "awayTeam": {
+				     "forwards": [{"playerId": 11, "goals": 1, "assists": 1, "sog": 4, "name": {"default": "A"}}],
+				     "defense": [{"playerId": 12, "plusMinus": -1, "hits": 3}],
+				     "goalies": [{"playerId": 13, "saves": 28, "shotsAgainst": 31}]
+				   },
+				   "homeTeam": {
+				     "forwards": [{"playerId": 21, "pim": 2}],
+				     "defense": [],
+				     "goalies": [{"playerId": 23, "saves": 30, "shotsAgainst": 32}]
+				   }
+				 }}
+				""");
+
+		assertThat(boxscore.gameId()).isEqualTo(2024020001L);
+		assertThat(boxscore.gameState()).isEqualTo("OFF");
+		assertThat(boxscore.isWinner(true)).isTrue();
+		assertThat(boxscore.skaters()).containsExactly(
+				new GameBoxscore.SkaterLine(11, false, 1, 1, 0, 4, 0, 0, 0),
+				new GameBoxscore.SkaterLine(12, false, 0, 0, -1, 0, 0, 3, 0),
+				new GameBoxscore.SkaterLine(21, true, 0, 0, 0, 0, 0, 0, 2));
+		assertThat(boxscore.goalies()).containsExactly(
+				new GameBoxscore.GoalieLine(13, false, 28, 31),
+				new GameBoxscore.GoalieLine(23, true, 30, 32));
+	}
+
+	@Test
+	void nonObjectElementsDoNotCutOffTheRestOfTheArray() throws Exception {
+		GameBoxscore boxscore = parse("""
+				{"gameState": "LIVE",
+				 "playerByGameStats": {
+				   "awayTeam": {
+				     "forwards": [null, {"playerId": 11, "goals": 1}, [1, 2], "x", {"playerId": 12, "assists": 1}],
+				     "goalies": [null, {"playerId": 13, "saves": 5, "shotsAgainst": 6}]
+				   },
+				   "homeTeam": {
+				     "defense": [{"playerId": 22, "hits": 1}]
+				   }
+				 }}
+				""");
+
+		assertThat(boxscore.gameId()).isEqualTo(7L);
+		assertThat(boxscore.skaters()).extracting(GameBoxscore.SkaterLine::playerId).containsExactly(11L, 12L, 22L);
+		assertThat(boxscore.goalies()).extracting(GameBoxscore.GoalieLine::playerId).containsExactly(13L);
+	}
+
+	// ==================== Helpers ====================
+
+	private GameBoxscore parse(String json) throws Exception {
+		return parser.parse(7L, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+	}
+}
@@ -0,0 +1,159 @@
+package com.fantasyhockey.fantasy_league.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NhlResponseCacheTests {
+
+	private static final String URL = "https://api-web.nhle.com/v1/gamecenter/2024020001/boxscore";
+
+	@TempDir
+	Path directory;
+
+	private NhlResponseCache cache;
+
+	/**
+	 * Responses the "network" answers with, in order.
+	 */
+	private final Deque<ClientHttpResponse> upstream = new ArrayDeque<>();
+
+	/**
+	 * Headers of every request that reached the network.
+	 */
+	private final List<HttpHeaders> sent = new ArrayList<>();
+
+	private final ClientHttpRequestExecution execution = (request, body) -> {
+		sent.add(HttpHeaders.readOnlyHttpHeaders(request.getHeaders()));
+		return upstream.removeFirst();
+	};
+
+	@BeforeEach
+	void setUp() {
+		cache = new NhlResponseCache(true, directory.toString());
+	}
+
+	@Test
+	void storedResponseIsRevalidatedWithItsValidators() throws Exception {
+		upstream.add(ok("{\"v\":1}", "\"v1\""));
+		assertThat(fetch()).isEqualTo("{\"v\":1}");
+		assertThat(sent.get(0).getIfNoneMatch()).isEmpty();
+
+		upstream.add(new MockClientHttpResponse(new byte[0], HttpStatus.NOT_MODIFIED));
+		ClientHttpResponse response = cache.intercept(get(), new byte[0], execution);
+
+		assertThat(sent.get(1).getIfNoneMatch()).containsExactly("\"v1\"");
+		assertThat(sent.get(1).getFirst(HttpHeaders.IF_MODIFIED_SINCE)).isEqualTo("Tue, 15 Oct 2024 20:00:00 GMT");
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+		assertThat(read(response)).isEqualTo("{\"v\":1}");
+	}
+
+	@Test
+	void changedResponseReplacesTheEntry() throws Exception {
+		upstream.add(ok("{\"v\":1}", "\"v1\""));
+		fetch();
+		upstream.add(ok("{\"v\":2}", "\"v2\""));
+		assertThat(fetch()).isEqualTo("{\"v\":2}");
+
+		upstream.add(new MockClientHttpResponse(new byte[0], HttpStatus.NOT_MODIFIED));
+		assertThat(fetch()).isEqualTo("{\"v\":2}");
+		assertThat(sent.get(2).getIfNoneMatch()).containsExactly("\"v2\"");
+	}
+
+	@Test
+	void immutableEntryIsServedWithoutTheNetwork() throws Exception {
+		upstream.add(ok("{\"gameState\":\"OFF\"}", "\"v1\""));
+		fetch();
+
+		cache.markImmutable(URL);
+
+		assertThat(fetch()).isEqualTo("{\"gameState\":\"OFF\"}");
+		assertThat(fetch()).isEqualTo("{\"gameState\":\"OFF\"}");
+		assertThat(sent).hasSize(1);
+	}
+
+	@Test
+	void unreadBodyIsStillStoredOnClose() throws Exception {
+		upstream.add(ok("{\"v\":1}", "\"v1\""));
+		cache.intercept(get(), new byte[0], execution).close();
+
+		cache.markImmutable(URL);
+
+		assertThat(fetch()).isEqualTo("{\"v\":1}");
+		assertThat(sent).hasSize(1);
+	}
+
+	@Test
+	void errorResponsesAreNotStored() throws Exception {
+		upstream.add(new MockClientHttpResponse("busy".getBytes(StandardCharsets.UTF_8), HttpStatus.SERVICE_UNAVAILABLE));
+		ClientHttpResponse error = cache.intercept(get(), new byte[0], execution);
+		assertThat(error.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+		error.close();
+
+		// Nothing to mark and nothing to revalidate
+		cache.markImmutable(URL);
+		upstream.add(ok("{\"v\":1}", "\"v1\""));
+		assertThat(fetch()).isEqualTo("{\"v\":1}");
+		assertThat(sent).hasSize(2);
+		assertThat(sent.get(1).getIfNoneMatch()).isEmpty();
+	}
+
+	@Test
+	void disabledCachePassesEveryRequestThrough() throws Exception {
+		cache = new NhlResponseCache(false, directory.resolve("unused").toString());
+		upstream.add(ok("{\"v\":1}", "\"v1\""));
+		fetch();
+		cache.markImmutable(URL);
+		upstream.add(ok("{\"v\":1}", "\"v1\""));
+		fetch();
+
+		assertThat(sent).hasSize(2);
+		assertThat(sent.get(1).getIfNoneMatch()).isEmpty();
+		assertThat(directory.resolve("unused")).doesNotExist();
+	}
+
+	// ==================== Helpers ====================
+
+	private String fetch() throws IOException {
+		return read(cache.intercept(get(), new byte[0], execution));
+	}
+
+	private static String read(ClientHttpResponse response) throws IOException {
+		try (response) {
+			return new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	private static MockClientHttpRequest get() {
+		return new MockClientHttpRequest(HttpMethod.GET, URI.create(URL));
+	}
+
+	private static MockClientHttpResponse ok(String body, String etag) {
+		MockClientHttpResponse response = new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8),
+				HttpStatus.OK);
+		response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+		response.getHeaders().setETag(etag);
+		response.getHeaders().set(HttpHeaders.LAST_MODIFIED, "Tue, 15 Oct 2024 20:00:00 GMT");
+		return response;
+	}
+}
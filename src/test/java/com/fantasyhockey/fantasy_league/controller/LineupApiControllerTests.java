@@ -0,0 +1,118 @@
+package com.fantasyhockey.fantasy_league.controller;
+
+import com.fantasyhockey.fantasy_league.dto.LineupChange;
+import com.fantasyhockey.fantasy_league.model.FantasyTeam;
+import com.fantasyhockey.fantasy_league.model.Player;
+import com.fantasyhockey.fantasy_league.model.User;
+import com.fantasyhockey.fantasy_league.repository.FantasyTeamRepository;
+import com.fantasyhockey.fantasy_league.repository.LineupSpotRepository;
+import com.fantasyhockey.fantasy_league.repository.PlayerRepository;
+import com.fantasyhockey.fantasy_league.repository.UserRepository;
+import com.fantasyhockey.fantasy_league.service.FantasyTeamService;
+import com.fantasyhockey.fantasy_league.service.RosterIndex;
+import com.fantasyhockey.fantasy_league.service.RosterLockingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Every lineup endpoint takes the team lock first, so while another request
+ * (e.g. an /apply from a second tab) holds it, the edit is refused with 409
+ * and nothing is written.
+ */
+class LineupApiControllerTests {
+
+	private static final Principal OWNER = () -> "owner";
+
+	private final FantasyTeamRepository teamRepository = mock(FantasyTeamRepository.class);
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final PlayerRepository playerRepository = mock(PlayerRepository.class);
+	private final LineupSpotRepository lineupRepository = mock(LineupSpotRepository.class);
+	private final RosterLockingService rosterLockingService = mock(RosterLockingService.class);
+
+	private LineupApiController controller;
+
+	@BeforeEach
+	void setUp() {
+		User user = new User();
+		FantasyTeam team = new FantasyTeam();
+		team.setId(1L);
+		Player player = new Player();
+		player.setId(7L);
+		player.setTeamName("TOR");
+		team.getPlayers().add(player);
+
+		when(userRepository.findByUsername("owner")).thenReturn(Optional.of(user));
+		when(teamRepository.findByUser(user)).thenReturn(Optional.of(team));
+		when(playerRepository.findById(7L)).thenReturn(Optional.of(player));
+
+		FantasyTeamService teamService = new FantasyTeamService(teamRepository, userRepository, playerRepository,
+				lineupRepository, mock(RosterIndex.class), rosterLockingService);
+		controller = new LineupApiController(teamService);
+
+		// Another request of the same team holds its row lock
+		doThrow(new CannotAcquireLockException("could not obtain lock on row in relation \"fantasy_team\""))
+				.when(teamRepository).lockTeamNoWait(anyLong());
+	}
+
+	@Test
+	void concurrentSingleSlotSaveIsAConflict() {
+		LineupApiController.SaveSpotRequest request = new LineupApiController.SaveSpotRequest();
+		request.setPlayerId(7L);
+		request.setSlotName("C1");
+
+		assertConflict(controller.saveSpot(request, OWNER));
+	}
+
+	@Test
+	void concurrentRemoveIsAConflict() {
+		LineupApiController.RemoveSpotRequest request = new LineupApiController.RemoveSpotRequest();
+		request.setSlotName("C1");
+
+		assertConflict(controller.removeSpot(request, OWNER));
+	}
+
+	@Test
+	void concurrentMoveIsAConflict() {
+		LineupApiController.MoveSpotRequest request = new LineupApiController.MoveSpotRequest();
+		request.setPlayerId(7L);
+		request.setOldSlotName("C1");
+		request.setNewSlotName("C2");
+
+		assertConflict(controller.moveSpot(request, OWNER));
+	}
+
+	@Test
+	void concurrentBatchIsAConflict() {
+		LineupApiController.ApplyLineupRequest request = new LineupApiController.ApplyLineupRequest();
+		request.setChanges(List.of(new LineupChange("C1", 7L)));
+
+		assertConflict(controller.applyChanges(request, OWNER));
+	}
+
+	// ==================== Helpers ====================
+
+	private void assertConflict(ResponseEntity<?> response) {
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+		verify(lineupRepository, never()).save(any());
+		verify(lineupRepository, never()).deleteByTeamAndSlotName(any(), any());
+		verify(lineupRepository, never()).replaceSlots(anyLong(), any(), any());
+		verifyNoInteractions(rosterLockingService);
+	}
+}
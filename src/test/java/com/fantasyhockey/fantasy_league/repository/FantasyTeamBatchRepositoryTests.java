@@ -0,0 +1,161 @@
+package com.fantasyhockey.fantasy_league.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FantasyTeamBatchRepositoryTests extends PostgresRepositoryTests {
+
+	private static final LocalDate MONDAY = LocalDate.of(2025, 1, 13);
+	private static final LocalDate TUESDAY = MONDAY.plusDays(1);
+
+	private FantasyTeamBatchRepositoryImpl teams;
+	private TeamWeekScoreBatchRepositoryImpl weekScores;
+
+	@BeforeEach
+	void setUp() {
+		teams = new FantasyTeamBatchRepositoryImpl(jdbcTemplate);
+		weekScores = new TeamWeekScoreBatchRepositoryImpl(jdbcTemplate);
+	}
+
+	@Test
+	void concurrentClaimsOfOnePlayerHaveExactlyOneWinner() throws Exception {
+		int contenders = 8;
+		List<Long> teamIds = new ArrayList<>();
+		for (int i = 0; i < contenders; i++) {
+			teamIds.add(team("T" + i));
+		}
+		long playerId = player("McDavid", "C");
+
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Boolean>> claims = new ArrayList<>();
+		try (ExecutorService executor = Executors.newFixedThreadPool(contenders)) {
+			for (long teamId : teamIds) {
+				claims.add(executor.submit(() -> {
+					start.await();
+					return teams.claimPlayer(teamId, playerId);
+				}));
+			}
+			start.countDown();
+		}
+
+		int won = 0;
+		for (Future<Boolean> claim : claims) {
+			if (claim.get()) {
+				won++;
+			}
+		}
+		assertThat(won).isEqualTo(1);
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM team_players WHERE player_id = ?",
+				Integer.class, playerId)).isEqualTo(1);
+	}
+
+	@Test
+	void releasedPlayerCanBeClaimedAgain() {
+		long teamA = team("A");
+		long teamB = team("B");
+		long playerId = player("Matthews", "C");
+
+		assertThat(teams.claimPlayer(teamA, playerId)).isTrue();
+		assertThat(teams.claimPlayer(teamB, playerId)).isFalse();
+		assertThat(teams.releasePlayer(teamB, playerId)).isFalse();
+		assertThat(teams.releasePlayer(teamA, playerId)).isTrue();
+		assertThat(teams.claimPlayer(teamB, playerId)).isTrue();
+	}
+
+	@Test
+	void lockedTeamFailsFastForASecondTransaction() throws Exception {
+		long teamId = team("A");
+		TransactionTemplate tx = new TransactionTemplate(
+				new DataSourceTransactionManager(Objects.requireNonNull(jdbcTemplate.getDataSource())));
+		CountDownLatch locked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+			Future<?> holder = executor.submit(() -> tx.executeWithoutResult(status -> {
+				teams.lockTeamNoWait(teamId);
+				locked.countDown();
+				await(release);
+			}));
+			locked.await();
+
+			assertThatThrownBy(() -> tx.executeWithoutResult(status -> teams.lockTeamNoWait(teamId)))
+					.isInstanceOf(PessimisticLockingFailureException.class)
+					.isInstanceOf(ConcurrencyFailureException.class);
+
+			release.countDown();
+			holder.get();
+		}
+		tx.executeWithoutResult(status -> teams.lockTeamNoWait(teamId));
+	}
+
+	@Test
+	void totalsCountTheSameLinesAsTheWeeklyScores() {
+		week(MONDAY, MONDAY.plusDays(6));
+		long teamA = team("A");
+		long teamB = team("B");
+		long p1 = player("P1", "C");
+		long p2 = player("P2", "D");
+		long p3 = player("P3", "G");
+		snapshot(MONDAY, teamA, p1);
+		snapshot(MONDAY, teamB, p3);
+		snapshot(TUESDAY, teamA, p1, p2);
+		snapshot(TUESDAY, teamB);
+		stat(p1, MONDAY, 1, 100);
+		stat(p2, MONDAY, 1, 400);
+		stat(p3, MONDAY, 2, 70);
+		stat(p1, TUESDAY, 3, 20);
+		stat(p2, TUESDAY, 3, 30);
+		stat(p3, TUESDAY, 4, 900);
+
+		teams.addFantasyPoints(MONDAY, Map.of(p1, 100L, p2, 400L, p3, 70L));
+		teams.addFantasyPoints(TUESDAY, Map.of(p1, 20L, p2, 30L, p3, 900L));
+		weekScores.addPoints(MONDAY, Map.of(p1, 100L, p2, 400L, p3, 70L));
+		weekScores.addPoints(TUESDAY, Map.of(p1, 20L, p2, 30L, p3, 900L));
+
+		assertThat(totalOf(teamA)).isEqualTo(150L).isEqualTo(weekScoreSum(teamA));
+		assertThat(totalOf(teamB)).isEqualTo(70L).isEqualTo(weekScoreSum(teamB));
+
+		teams.resetFantasyPoints();
+		assertThat(totalOf(teamA)).isZero();
+		teams.rebuildFantasyPoints();
+		assertThat(totalOf(teamA)).isEqualTo(150L);
+		assertThat(totalOf(teamB)).isEqualTo(70L);
+	}
+
+	// ==================== Helpers ====================
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static long totalOf(long teamId) {
+		return jdbcTemplate.queryForObject("SELECT total_fantasy_points FROM fantasy_team WHERE id = ?", Long.class,
+				teamId);
+	}
+
+	private static long weekScoreSum(long teamId) {
+		return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(points), 0) FROM team_week_score WHERE team_id = ?",
+				Long.class, teamId);
+	}
+}
@@ -0,0 +1,84 @@
+package com.fantasyhockey.fantasy_league.repository;
+
+import com.fantasyhockey.fantasy_league.model.Player;
+import com.fantasyhockey.fantasy_league.model.PlayerStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlayerSeasonTotalsBatchRepositoryTests extends PostgresRepositoryTests {
+
+	private static final LocalDate DATE = LocalDate.of(2025, 1, 13);
+
+	private PlayerSeasonTotalsBatchRepositoryImpl totals;
+
+	@BeforeEach
+	void setUp() {
+		totals = new PlayerSeasonTotalsBatchRepositoryImpl(jdbcTemplate);
+	}
+
+	@Test
+	void gamesAreAddedToTheExistingRow() {
+		long skater = player("Kucherov", "RW");
+		long goalie = player("Vasilevskiy", "G");
+
+		totals.addGames(List.of(skaterLine(skater, 1, 2, 350), goalieLine(goalie, 30, 2, 500)));
+		totals.addGames(List.of(skaterLine(skater, 0, 1, 100), skaterLine(skater, 2, 0, 400)));
+
+		assertThat(totalsOf(skater)).containsAllEntriesOf(Map.of(
+				"games_played", 3, "goals", 3, "assists", 3, "fantasy_points", 850L));
+		assertThat(totalsOf(goalie)).containsAllEntriesOf(Map.of(
+				"games_played", 1, "saves", 30, "goals_against", 2, "fantasy_points", 500L));
+	}
+
+	@Test
+	void rebuildMatchesTheIncrementalTotals() {
+		long skater = player("Kucherov", "RW");
+		long idle = player("Point", "C");
+		stat(skater, DATE, 1, 350);
+		stat(skater, DATE.plusDays(1), 2, 100);
+		totals.addGames(List.of(skaterLine(skater, 0, 0, 350), skaterLine(skater, 0, 0, 100)));
+		Map<String, Object> incremental = totalsOf(skater);
+
+		totals.rebuild();
+
+		assertThat(totalsOf(skater)).isEqualTo(incremental);
+		assertThat(totalsOf(idle)).containsAllEntriesOf(Map.of("games_played", 0, "fantasy_points", 0L));
+	}
+
+	// ==================== Helpers ====================
+
+	private static PlayerStats skaterLine(long playerId, int goals, int assists, long fantasyPoints) {
+		PlayerStats stats = line(playerId, fantasyPoints);
+		stats.setGoals(goals);
+		stats.setAssists(assists);
+		return stats;
+	}
+
+	private static PlayerStats goalieLine(long playerId, int saves, int goalsAgainst, long fantasyPoints) {
+		PlayerStats stats = line(playerId, fantasyPoints);
+		stats.setSaves(saves);
+		stats.setShotsAgainst(saves + goalsAgainst);
+		stats.setGoalsAgainst(goalsAgainst);
+		return stats;
+	}
+
+	private static PlayerStats line(long playerId, long fantasyPoints) {
+		Player player = new Player();
+		player.setId(playerId);
+		PlayerStats stats = new PlayerStats();
+		stats.setPlayer(player);
+		stats.setDate(DATE);
+		stats.setFantasyPoints(fantasyPoints);
+		return stats;
+	}
+
+	private static Map<String, Object> totalsOf(long playerId) {
+		return jdbcTemplate.queryForMap("SELECT * FROM player_season_totals WHERE player_id = ?", playerId);
+	}
+}
@@ -0,0 +1,94 @@
+package com.fantasyhockey.fantasy_league.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.BitSet;
+
+/**
+ * Base of the tests that run the set-based repository SQL against a real
+ * PostgreSQL (unnest, ON CONFLICT and get_bit have no in-memory stand-in).
+ * One container with the Flyway schema is shared by all subclasses; every
+ * test starts from empty tables. Skipped when Docker is not available.
+ *
+ * The data source opens a new connection per statement, so concurrent
+ * callers really run in separate transactions.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+abstract class PostgresRepositoryTests {
+
+	private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	protected static JdbcTemplate jdbcTemplate;
+
+	@BeforeAll
+	static void startDatabase() {
+		if (jdbcTemplate != null) {
+			return;
+		}
+		POSTGRES.start();
+		Flyway.configure()
+				.dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+				.locations("classpath:db/migration")
+				.load()
+				.migrate();
+		jdbcTemplate = new JdbcTemplate(
+				new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+	}
+
+	@BeforeEach
+	void truncateTables() {
+		jdbcTemplate.execute("TRUNCATE team_week_score, player_season_totals, lineup_snapshot, player_stats, "
+				+ "team_players, lineup_spot, matchup, game_week, fantasy_team, players, users "
+				+ "RESTART IDENTITY CASCADE");
+	}
+
+	// ==================== Fixtures ====================
+
+	protected static long team(String name) {
+		return jdbcTemplate.queryForObject("INSERT INTO fantasy_team (team_name) VALUES (?) RETURNING id",
+				Long.class, name);
+	}
+
+	protected static long player(String lastName, String position) {
+		return jdbcTemplate.queryForObject(
+				"INSERT INTO players (last_name, position) VALUES (?, ?) RETURNING id", Long.class, lastName, position);
+	}
+
+	protected static void roster(long teamId, long... playerIds) {
+		for (long playerId : playerIds) {
+			jdbcTemplate.update("INSERT INTO team_players (team_id, player_id) VALUES (?, ?)", teamId, playerId);
+		}
+	}
+
+	protected static long week(LocalDate start, LocalDate end) {
+		return jdbcTemplate.queryForObject("INSERT INTO game_week (week_number, start_date, end_date, is_current, "
+				+ "is_completed) VALUES (1, ?, ?, true, false) RETURNING id", Long.class,
+				Date.valueOf(start), Date.valueOf(end));
+	}
+
+	protected static void stat(long playerId, LocalDate date, long gameId, long fantasyPoints) {
+		jdbcTemplate.update("INSERT INTO player_stats (player_id, date, game_id, goals, assists, saves, "
+				+ "shots_against, goals_against, win, fantasy_points) VALUES (?, ?, ?, 0, 0, 0, 0, 0, false, ?)",
+				playerId, Date.valueOf(date), gameId, fantasyPoints);
+	}
+
+	/**
+	 * Stores a lineup snapshot in the layout LineupSnapshotService writes.
+	 */
+	protected static void snapshot(LocalDate date, long teamId, long... activePlayerIds) {
+		BitSet active = new BitSet();
+		for (long playerId : activePlayerIds) {
+			active.set(Math.toIntExact(playerId));
+		}
+		jdbcTemplate.update("INSERT INTO lineup_snapshot (date, team_id, active_players) VALUES (?, ?, ?)",
+				Date.valueOf(date), teamId, active.toByteArray());
+	}
+}
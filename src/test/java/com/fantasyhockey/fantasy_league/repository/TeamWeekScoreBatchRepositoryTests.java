@@ -0,0 +1,132 @@
+package com.fantasyhockey.fantasy_league.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TeamWeekScoreBatchRepositoryTests extends PostgresRepositoryTests {
+
+	private static final LocalDate MONDAY = LocalDate.of(2025, 1, 13);
+	private static final LocalDate TUESDAY = MONDAY.plusDays(1);
+
+	private TeamWeekScoreBatchRepositoryImpl weekScores;
+	private LineupSpotBatchRepositoryImpl lineups;
+
+	private long teamA;
+	private long teamB;
+	private long[] players;
+
+	@BeforeEach
+	void setUp() {
+		weekScores = new TeamWeekScoreBatchRepositoryImpl(jdbcTemplate);
+		lineups = new LineupSpotBatchRepositoryImpl(jdbcTemplate);
+
+		week(MONDAY, MONDAY.plusDays(6));
+		teamA = team("A");
+		teamB = team("B");
+		// IDs 1..10, so the bitsets span two bytes
+		players = new long[11];
+		for (int i = 1; i <= 10; i++) {
+			players[i] = player("P" + i, "C");
+		}
+	}
+
+	@Test
+	void onlyPlayersWithTheirBitSetScore() {
+		roster(teamA, players[1], players[2], players[10]);
+		roster(teamB, players[3]);
+		snapshot(MONDAY, teamA, players[2]);
+		snapshot(MONDAY, teamB, players[3], players[9]);
+
+		// players[1] is benched, players[10] lies past the end of team A's one-byte bitset
+		weekScores.addPoints(MONDAY, Map.of(players[1], 100L, players[2], 250L, players[3], 300L,
+				players[9], 40L, players[10], 500L));
+
+		assertThat(scoreOf(teamA)).containsExactly(250L);
+		assertThat(scoreOf(teamB)).containsExactly(340L);
+	}
+
+	@Test
+	void pointsOfLaterDaysAreAddedToTheSameWeekRow() {
+		snapshot(MONDAY, teamA, players[1]);
+		snapshot(TUESDAY, teamA, players[1], players[2]);
+
+		weekScores.addPoints(MONDAY, Map.of(players[1], 100L, players[2], 50L));
+		weekScores.addPoints(TUESDAY, Map.of(players[1], 30L, players[2], 20L));
+
+		assertThat(scoreOf(teamA)).containsExactly(150L);
+	}
+
+	@Test
+	void daysOutsideEveryGameWeekAreNotCredited() {
+		LocalDate offWeek = MONDAY.minusDays(30);
+		snapshot(offWeek, teamA, players[1]);
+
+		weekScores.addPoints(offWeek, Map.of(players[1], 100L));
+
+		assertThat(scoreOf(teamA)).isEmpty();
+	}
+
+	@Test
+	void rebuildReproducesIncrementalScoresAfterRosterMoves() {
+		roster(teamA, players[1], players[2]);
+		roster(teamB, players[3]);
+		snapshot(MONDAY, teamB, players[3]);
+
+		// Team A had no lineup snapshot: its roster of the day becomes one
+		assertThat(lineups.saveMissingRosterSnapshots(MONDAY)).isEqualTo(1);
+		assertThat(lineups.saveMissingRosterSnapshots(MONDAY)).isZero();
+		stat(players[1], MONDAY, 1, 100);
+		stat(players[2], MONDAY, 1, 50);
+		stat(players[3], MONDAY, 2, 70);
+		weekScores.addPoints(MONDAY, Map.of(players[1], 100L, players[2], 50L, players[3], 70L));
+
+		jdbcTemplate.update("DELETE FROM team_players WHERE player_id = ?", players[1]);
+		roster(teamB, players[1]);
+		weekScores.rebuild();
+
+		assertThat(scoreOf(teamA)).containsExactly(150L);
+		assertThat(scoreOf(teamB)).containsExactly(70L);
+	}
+
+	@Test
+	void statDaysWithoutSnapshotsGetTheCurrentRoster() {
+		roster(teamA, players[1]);
+		stat(players[1], MONDAY, 1, 100);
+		stat(players[1], TUESDAY, 2, 40);
+		snapshot(TUESDAY, teamA);
+
+		// Monday for both teams; Tuesday only for team B
+		assertThat(lineups.saveMissingRosterSnapshots()).isEqualTo(3);
+		weekScores.rebuild();
+
+		assertThat(scoreOf(teamA)).containsExactly(100L);
+		assertThat(scoreOf(teamB)).isEmpty();
+	}
+
+	@Test
+	void bestPlayerCountsOnlySnapshotDays() {
+		snapshot(MONDAY, teamA, players[1]);
+		snapshot(TUESDAY, teamA, players[1], players[2]);
+		stat(players[1], MONDAY, 1, 100);
+		stat(players[1], TUESDAY, 2, 100);
+		stat(players[2], MONDAY, 1, 500);
+		stat(players[2], TUESDAY, 2, 150);
+
+		assertThat(weekScores.findBestPlayerPoints(teamA, MONDAY, TUESDAY)).isEqualTo(200L);
+		assertThat(weekScores.findBestPlayerPoints(teamA, TUESDAY, TUESDAY)).isEqualTo(150L);
+		assertThat(weekScores.findBestPlayerPoints(teamB, MONDAY, TUESDAY)).isZero();
+	}
+
+	// ==================== Helpers ====================
+
+	private static List<Long> scoreOf(long teamId) {
+		return jdbcTemplate.queryForList("SELECT points FROM team_week_score WHERE team_id = ?", Long.class,
+				teamId);
+	}
+}
@@ -0,0 +1,138 @@
+package com.fantasyhockey.fantasy_league.service;
+
+import com.fantasyhockey.fantasy_league.model.FantasyPoints;
+import com.fantasyhockey.fantasy_league.model.ScoringRule;
+import com.fantasyhockey.fantasy_league.model.ScoringStat;
+import com.fantasyhockey.fantasy_league.repository.ScoringRuleSetRepository;
+import com.fantasyhockey.fantasy_league.service.PointsService.ScoringRules;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class CompiledScoringTests {
+
+	@Test
+	void weightsAreAppliedPerUnitInHundredths() {
+		CompiledScoring scoring = CompiledScoring.compile(2, List.of(
+				new ScoringRule(ScoringStat.GOALS, 3, 0, 0),
+				new ScoringRule(ScoringStat.SHOTS, 0.5, 0, 0),
+				new ScoringRule(ScoringStat.PIM, -0.1, 0, 0)));
+
+		assertThat(scoring.getVersion()).isEqualTo(2);
+		assertThat(scoring.skaterPoints(2, 5, 1, 3, 4, 6, 7)).isEqualTo(600 + 150 - 70);
+		assertThat(scoring.skaterPoints(0, 0, 0, 0, 0, 0, 0)).isZero();
+	}
+
+	@Test
+	void weightsOfTheSameStatisticAddUp() {
+		CompiledScoring scoring = CompiledScoring.compile(1, List.of(
+				new ScoringRule(ScoringStat.ASSISTS, 2, 0, 0),
+				new ScoringRule(ScoringStat.ASSISTS, 0.25, 0, 0)));
+
+		assertThat(scoring.skaterPoints(0, 4, 0, 0, 0, 0, 0)).isEqualTo(900);
+	}
+
+	@Test
+	void bonusIsAddedOnceFromTheThresholdOn() {
+		CompiledScoring scoring = CompiledScoring.compile(1, List.of(
+				new ScoringRule(ScoringStat.GOALS, 3, 3, 2.5)));
+
+		assertThat(scoring.skaterPoints(2, 0, 0, 0, 0, 0, 0)).isEqualTo(600);
+		assertThat(scoring.skaterPoints(3, 0, 0, 0, 0, 0, 0)).isEqualTo(900 + 250);
+		assertThat(scoring.skaterPoints(4, 0, 0, 0, 0, 0, 0)).isEqualTo(1200 + 250);
+	}
+
+	@Test
+	void goalieRulesDoNotScoreSkatersAndViceVersa() {
+		CompiledScoring scoring = CompiledScoring.compile(1, List.of(
+				new ScoringRule(ScoringStat.GOALS, 3, 0, 0),
+				new ScoringRule(ScoringStat.SAVES, 0.2, 0, 0),
+				new ScoringRule(ScoringStat.GOALS_AGAINST, -1, 0, 0),
+				new ScoringRule(ScoringStat.SHUTOUTS, 3, 0, 0),
+				new ScoringRule(ScoringStat.WINS, 2, 0, 0)));
+
+		assertThat(scoring.skaterPoints(1, 0, 0, 0, 0, 0, 0)).isEqualTo(300);
+		assertThat(scoring.goaliePoints(30, 2, false, false)).isEqualTo(600 - 200);
+		assertThat(scoring.goaliePoints(25, 0, true, true)).isEqualTo(500 + 300 + 200);
+	}
+
+	@Test
+	void invalidRulesAreRejected() {
+		assertThatThrownBy(() -> CompiledScoring.compile(1, List.of(
+				new ScoringRule(ScoringStat.GOALS, 3, 3, 3),
+				new ScoringRule(ScoringStat.GOALS, 0, 4, 1))))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> CompiledScoring.compile(1, List.of(new ScoringRule(null, 1, 0, 0))))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> CompiledScoring.compile(1, List.of(new ScoringRule(ScoringStat.HITS, Double.NaN, 0, 0))))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> CompiledScoring.compile(1, List.of(new ScoringRule(ScoringStat.HITS, 1, -1, 0))))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void defaultRulesMatchTheOriginalConstants() {
+		CompiledScoring scoring = new ScoringRuleService(mock(ScoringRuleSetRepository.class)).current();
+
+		for (int goals = 0; goals <= 4; goals++) {
+			for (int assists = 0; assists <= 3; assists++) {
+				for (int plusMinus = -3; plusMinus <= 3; plusMinus++) {
+					for (int shots = 0; shots <= 7; shots++) {
+						for (int blocks = 0; blocks <= 3; blocks++) {
+							for (int hits = 0; hits <= 5; hits++) {
+								for (int pim = 0; pim <= 12; pim += 3) {
+									assertThat(scoring.skaterPoints(goals, assists, plusMinus, shots, blocks, hits, pim))
+											.isEqualTo(originalSkaterPoints(goals, assists, plusMinus, shots, blocks,
+													hits, pim));
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+		for (int saves = 0; saves <= 50; saves++) {
+			for (int goalsAgainst = 0; goalsAgainst <= 8; goalsAgainst++) {
+				boolean shutout = goalsAgainst == 0 && saves > 0;
+				assertThat(scoring.goaliePoints(saves, goalsAgainst, shutout, false))
+						.isEqualTo(originalGoaliePoints(saves, goalsAgainst, shutout));
+			}
+		}
+	}
+
+	// ==================== Helpers ====================
+
+	/**
+	 * The hard-coded skater formula the default rules were derived from.
+	 */
+	private static long originalSkaterPoints(int goals, int assists, int plusMinus, int shots, int blockedShots,
+			int hits, int pim) {
+		double points = goals * ScoringRules.POINTS_PER_GOAL
+				+ assists * ScoringRules.POINTS_PER_ASSIST
+				+ plusMinus * ScoringRules.POINTS_PER_PLUS_MINUS
+				+ shots * ScoringRules.POINTS_PER_SHOT
+				+ blockedShots * ScoringRules.POINTS_PER_BLOCK
+				+ hits * ScoringRules.POINTS_PER_HIT
+				+ pim * ScoringRules.POINTS_PER_PIM;
+		if (goals >= ScoringRules.HATTRICK_THRESHOLD) {
+			points += ScoringRules.POINTS_PER_HATTRICK;
+		}
+		return FantasyPoints.fromPoints(points);
+	}
+
+	/**
+	 * The hard-coded goalie formula the default rules were derived from.
+	 */
+	private static long originalGoaliePoints(int saves, int goalsAgainst, boolean shutout) {
+		double points = saves * ScoringRules.POINTS_PER_SAVE
+				+ goalsAgainst * ScoringRules.POINTS_PER_GOAL_AGAINST;
+		if (shutout) {
+			points += ScoringRules.POINTS_PER_SHUTOUT;
+		}
+		return FantasyPoints.fromPoints(points);
+	}
+}
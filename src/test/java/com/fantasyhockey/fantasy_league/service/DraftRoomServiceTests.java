@@ -0,0 +1,212 @@
+package com.fantasyhockey.fantasy_league.service;
+
+import com.fantasyhockey.fantasy_league.model.DraftState;
+import com.fantasyhockey.fantasy_league.model.FantasyTeam;
+import com.fantasyhockey.fantasy_league.model.Player;
+import com.fantasyhockey.fantasy_league.repository.DraftStateRepository;
+import com.fantasyhockey.fantasy_league.repository.FantasyTeamRepository;
+import com.fantasyhockey.fantasy_league.repository.PlayerRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the draft room against mocked rosters. With a zero pick clock every
+ * tick ends the current pick, so whole rounds can be played synchronously.
+ */
+class DraftRoomServiceTests {
+
+	private static final int ROUNDS = FantasyTeamService.MAX_FORWARDS + FantasyTeamService.MAX_DEFENSEMEN
+			+ FantasyTeamService.MAX_GOALIES;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final FantasyTeamRepository teamRepository = mock(FantasyTeamRepository.class);
+	private final PlayerRepository playerRepository = mock(PlayerRepository.class);
+	private final FantasyTeamService fantasyTeamService = mock(FantasyTeamService.class);
+	private final RosterIndex rosterIndex = mock(RosterIndex.class);
+	private final DraftStateRepository draftStateRepository = mock(DraftStateRepository.class);
+	private final Map<String, WebSocketSession> sessions = new HashMap<>();
+
+	private DraftRoomService draftRoom;
+
+	@BeforeEach
+	void setUp() {
+		// Stored out of order; the snake order is by team ID
+		when(teamRepository.findAll()).thenReturn(List.of(team(3L), team(1L), team(2L)));
+
+		draftRoom = new DraftRoomService(teamRepository, playerRepository, fantasyTeamService, rosterIndex,
+				draftStateRepository, objectMapper);
+		ReflectionTestUtils.setField(draftRoom, "pickSeconds", 0);
+	}
+
+	@Test
+	void oddRoundsRunBackwards() throws Exception {
+		List<JsonNode> messages = join("watcher", null);
+
+		draftRoom.start();
+		for (int i = 0; i < 6; i++) {
+			draftRoom.tick();
+		}
+
+		assertThat(teamsOf(messages, "skip")).containsExactly(1L, 2L, 3L, 3L, 2L, 1L);
+		verify(draftStateRepository).save(new DraftState(ScoringRuleService.DEFAULT_LEAGUE, 6));
+		verify(fantasyTeamService, never()).draftPlayer(anyLong(), anyLong());
+	}
+
+	@Test
+	void teamsWithAFullRosterAreSkipped() throws Exception {
+		when(rosterIndex.rosterSize(1L)).thenReturn(ROUNDS);
+		List<JsonNode> messages = join("watcher", null);
+
+		draftRoom.start();
+		for (int i = 0; i < 5; i++) {
+			draftRoom.tick();
+		}
+
+		// Team 1 is passed over at the start and at both ends of the snake turn
+		assertThat(teamsOf(messages, "skip")).containsExactly(2L, 3L, 3L, 2L, 2L);
+	}
+
+	@Test
+	void expiredClockDraftsTheFirstQueuedPlayerThatFits() throws Exception {
+		List<JsonNode> messages = join("owner1", 1L);
+		draftRoom.setQueue(session("owner1"), List.of(10L, 11L, 12L));
+
+		// 10 was taken meanwhile, 11 is a goalie without a free goalie spot
+		when(rosterIndex.isRostered(10L)).thenReturn(true);
+		when(playerRepository.findById(11L)).thenReturn(Optional.of(player(11L, "G")));
+		when(playerRepository.findById(12L)).thenReturn(Optional.of(player(12L, "C")));
+		when(fantasyTeamService.hasRosterSpace(1L, "C")).thenReturn(true);
+		when(fantasyTeamService.draftPlayer(12L, 1L)).thenReturn(player(12L, "C"));
+
+		draftRoom.start();
+		draftRoom.tick();
+
+		verify(fantasyTeamService).draftPlayer(12L, 1L);
+		JsonNode pick = last(messages, "pick").get("pick");
+		assertThat(pick.get("number").asInt()).isEqualTo(1);
+		assertThat(pick.get("playerId").asLong()).isEqualTo(12L);
+		assertThat(pick.get("auto").asBoolean()).isTrue();
+		assertThat(last(messages, "queue").get("playerIds")).extracting(JsonNode::asLong).containsExactly(10L, 11L);
+		assertThat(last(messages, "clock").get("onClock").asLong()).isEqualTo(2L);
+	}
+
+	@Test
+	void onlyTheTeamOnTheClockCanPick() throws Exception {
+		List<JsonNode> second = join("owner2", 2L);
+		List<JsonNode> first = join("owner1", 1L);
+		when(fantasyTeamService.draftPlayer(10L, 1L)).thenReturn(player(10L, "D"));
+		draftRoom.start();
+
+		draftRoom.pick(session("owner2"), 10L);
+		assertThat(last(second, "error").get("message").asText()).isEqualTo("Nejsi na řadě.");
+		verify(fantasyTeamService, never()).draftPlayer(anyLong(), anyLong());
+
+		draftRoom.pick(session("owner1"), 10L);
+		JsonNode pick = last(first, "pick").get("pick");
+		assertThat(pick.get("teamId").asLong()).isEqualTo(1L);
+		assertThat(pick.get("auto").asBoolean()).isFalse();
+		verify(draftStateRepository).save(new DraftState(ScoringRuleService.DEFAULT_LEAGUE, 1));
+	}
+
+	@Test
+	void resumeContinuesAtTheStoredPick() throws Exception {
+		when(draftStateRepository.findById(ScoringRuleService.DEFAULT_LEAGUE))
+				.thenReturn(Optional.of(new DraftState(ScoringRuleService.DEFAULT_LEAGUE, 4)));
+		List<JsonNode> messages = join("watcher", null);
+
+		draftRoom.resume();
+
+		// Pick 5 is the second pick of the backwards round
+		JsonNode state = last(messages, "state");
+		assertThat(state.get("running").asBoolean()).isTrue();
+		assertThat(state.get("pickNumber").asInt()).isEqualTo(5);
+		assertThat(state.get("onClock").asLong()).isEqualTo(2L);
+		assertThat(state.get("picks")).isEmpty();
+	}
+
+	@Test
+	void resumeNeedsAnUnfinishedDraft() {
+		assertThatThrownBy(draftRoom::resume).isInstanceOf(IllegalStateException.class);
+
+		when(draftStateRepository.findById(ScoringRuleService.DEFAULT_LEAGUE))
+				.thenReturn(Optional.of(new DraftState(ScoringRuleService.DEFAULT_LEAGUE, 3 * ROUNDS)));
+		assertThatThrownBy(draftRoom::resume).isInstanceOf(IllegalStateException.class);
+		assertThat(draftRoom.isRunning()).isFalse();
+
+		draftRoom.start();
+		assertThatThrownBy(draftRoom::resume).isInstanceOf(IllegalStateException.class);
+	}
+
+	// ==================== Helpers ====================
+
+	/**
+	 * Connects a participant and returns the messages it receives.
+	 */
+	private List<JsonNode> join(String username, Long teamId) throws Exception {
+		List<JsonNode> received = new ArrayList<>();
+		WebSocketSession session = mock(WebSocketSession.class);
+		when(session.getId()).thenReturn(username);
+		when(session.isOpen()).thenReturn(true);
+		when(session.getPrincipal()).thenReturn(() -> username);
+		doAnswer(inv -> received.add(objectMapper.readTree(((TextMessage) inv.getArgument(0)).getPayload())))
+				.when(session).sendMessage(any());
+		when(fantasyTeamService.getTeamByUsername(username))
+				.thenReturn(teamId == null ? Optional.empty() : Optional.of(team(teamId)));
+
+		sessions.put(username, session);
+		draftRoom.join(session);
+		return received;
+	}
+
+	private WebSocketSession session(String username) {
+		return sessions.get(username);
+	}
+
+	private static List<Long> teamsOf(List<JsonNode> messages, String type) {
+		return messages.stream().filter(m -> type.equals(m.get("type").asText()))
+				.map(m -> m.get("teamId").asLong()).toList();
+	}
+
+	private static JsonNode last(List<JsonNode> messages, String type) {
+		List<JsonNode> ofType = messages.stream().filter(m -> type.equals(m.get("type").asText())).toList();
+		assertThat(ofType).isNotEmpty();
+		return ofType.get(ofType.size() - 1);
+	}
+
+	private static FantasyTeam team(Long id) {
+		FantasyTeam team = new FantasyTeam();
+		team.setId(id);
+		team.setTeamName("Tým " + id);
+		return team;
+	}
+
+	private static Player player(Long id, String position) {
+		Player player = new Player();
+		player.setId(id);
+		player.setFirstName("Hráč");
+		player.setLastName(String.valueOf(id));
+		player.setPosition(position);
+		return player;
+	}
+}
@@ -0,0 +1,95 @@
+package com.fantasyhockey.fantasy_league.service;
+
+import com.fantasyhockey.fantasy_league.repository.PlayerRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PlayerIdResolverTests {
+
+	private static final long FIRST_NHL_ID = 8_470_000L;
+
+	private final PlayerRepository playerRepository = mock(PlayerRepository.class);
+	private final PlayerIdResolver resolver = new PlayerIdResolver(playerRepository);
+
+	@Test
+	void reloadMapsEveryStoredPlayerAndSkipsMissingNhlIds() {
+		List<Object[]> pairs = new ArrayList<>();
+		pairs.add(new Object[] { 8478402L, 1L });
+		pairs.add(new Object[] { null, 2L });
+		pairs.add(new Object[] { 8479318L, 3L });
+		when(playerRepository.findAllNhlIdPairs()).thenReturn(pairs);
+
+		resolver.reload();
+
+		assertThat(resolver.resolve(8478402L)).isEqualTo(1L);
+		assertThat(resolver.resolve(8479318L)).isEqualTo(3L);
+		assertThat(resolver.resolve(8471214L)).isEqualTo(PlayerIdResolver.UNKNOWN);
+	}
+
+	@Test
+	void nonPositiveIdsAreUnknown() {
+		assertThat(resolver.resolve(0L)).isEqualTo(PlayerIdResolver.UNKNOWN);
+		assertThat(resolver.resolve(-5L)).isEqualTo(PlayerIdResolver.UNKNOWN);
+
+		resolver.registerAll(new long[] { 0L, -5L, 8478402L }, new long[] { 10L, 11L, 12L });
+
+		assertThat(resolver.resolve(0L)).isEqualTo(PlayerIdResolver.UNKNOWN);
+		assertThat(resolver.resolve(-5L)).isEqualTo(PlayerIdResolver.UNKNOWN);
+		assertThat(resolver.resolve(8478402L)).isEqualTo(12L);
+	}
+
+	@Test
+	void denseTableResolvesEveryKeyThroughProbing() {
+		// Consecutive NHL IDs fill half of the table, so collisions are certain
+		int players = 5_000;
+		List<Object[]> pairs = new ArrayList<>();
+		for (int i = 0; i < players; i++) {
+			pairs.add(new Object[] { FIRST_NHL_ID + i, (long) i + 1 });
+		}
+		when(playerRepository.findAllNhlIdPairs()).thenReturn(pairs);
+
+		resolver.reload();
+
+		for (int i = 0; i < players; i++) {
+			assertThat(resolver.resolve(FIRST_NHL_ID + i)).isEqualTo(i + 1);
+		}
+		assertThat(LongStream.range(FIRST_NHL_ID + players, FIRST_NHL_ID + 2L * players)
+				.map(resolver::resolve)).containsOnly(PlayerIdResolver.UNKNOWN);
+	}
+
+	@Test
+	void registrationsBeyondTheCapacityGrowTheTableAndKeepOldMappings() {
+		when(playerRepository.findAllNhlIdPairs()).thenReturn(List.<Object[]>of(new Object[] { FIRST_NHL_ID, 1L }));
+		resolver.reload();
+
+		for (int batch = 0; batch < 20; batch++) {
+			long[] nhlIds = new long[50];
+			long[] playerIds = new long[50];
+			for (int i = 0; i < 50; i++) {
+				nhlIds[i] = FIRST_NHL_ID + 1 + batch * 50 + i;
+				playerIds[i] = 2 + batch * 50 + i;
+			}
+			resolver.registerAll(nhlIds, playerIds);
+		}
+
+		for (int i = 0; i <= 1_000; i++) {
+			assertThat(resolver.resolve(FIRST_NHL_ID + i)).isEqualTo(i + 1);
+		}
+	}
+
+	@Test
+	void registeringAKnownIdReplacesItsPlayer() {
+		resolver.registerAll(new long[] { 8478402L }, new long[] { 1L });
+		resolver.registerAll(new long[] { 8478402L, 8479318L }, new long[] { 7L, 8L });
+
+		assertThat(resolver.resolve(8478402L)).isEqualTo(7L);
+		assertThat(resolver.resolve(8479318L)).isEqualTo(8L);
+	}
+}
@@ -0,0 +1,173 @@
+package com.fantasyhockey.fantasy_league.service;
+
+import com.fantasyhockey.fantasy_league.dto.StoredStatLine;
+import com.fantasyhockey.fantasy_league.model.ScoringRule;
+import com.fantasyhockey.fantasy_league.model.ScoringStat;
+import com.fantasyhockey.fantasy_league.repository.FantasyTeamRepository;
+import com.fantasyhockey.fantasy_league.repository.PlayerStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RescoringServiceTests {
+
+	private final PlayerStatsRepository statsRepository = mock(PlayerStatsRepository.class);
+	private final FantasyTeamRepository teamRepository = mock(FantasyTeamRepository.class);
+	private final PointsService pointsService = mock(PointsService.class, Answers.CALLS_REAL_METHODS);
+	private final ScoringRuleService scoringRuleService = mock(ScoringRuleService.class);
+	private final TeamWeekScoreService teamWeekScoreService = mock(TeamWeekScoreService.class);
+	private final PlayerSeasonTotalsService seasonTotalsService = mock(PlayerSeasonTotalsService.class);
+	private final StandingsService standingsService = mock(StandingsService.class);
+	private final MatchupService matchupService = mock(MatchupService.class);
+	private final LineupSnapshotService lineupSnapshotService = mock(LineupSnapshotService.class);
+
+	private final List<StoredStatLine> table = new ArrayList<>();
+	private final Map<Long, Long> written = new HashMap<>();
+
+	private RescoringService service;
+
+	@BeforeEach
+	void setUp() {
+		when(scoringRuleService.current()).thenReturn(CompiledScoring.compile(3, List.of(
+				new ScoringRule(ScoringStat.GOALS, 2, 0, 0),
+				new ScoringRule(ScoringStat.SAVES, 0.5, 0, 0),
+				new ScoringRule(ScoringStat.SHUTOUTS, 5, 0, 0),
+				new ScoringRule(ScoringStat.WINS, 1, 0, 0))));
+
+		// Keyset paging over an in-memory table ordered by ID
+		when(statsRepository.findRawStatsAfter(anyLong(), anyInt())).thenAnswer(inv -> {
+			long afterId = inv.getArgument(0);
+			int limit = inv.getArgument(1);
+			return table.stream().filter(line -> line.id() > afterId).limit(limit).toList();
+		});
+		when(statsRepository.updateFantasyPoints(any(), any())).thenAnswer(inv -> {
+			Long[] ids = inv.getArgument(0);
+			Long[] points = inv.getArgument(1);
+			for (int i = 0; i < ids.length; i++) {
+				written.put(ids[i], points[i]);
+			}
+			return ids.length;
+		});
+
+		service = new RescoringService(statsRepository, teamRepository, pointsService, scoringRuleService,
+				teamWeekScoreService, seasonTotalsService, standingsService, matchupService, lineupSnapshotService);
+		ReflectionTestUtils.setField(service, "chunkSize", 2);
+	}
+
+	@Test
+	void chunksAreReadAfterTheLastIdOfThePreviousChunk() {
+		for (long id : new long[] { 3, 7, 8, 15, 40 }) {
+			table.add(skater(id, 1, 200));
+		}
+
+		service.rescoreAll();
+
+		InOrder reads = inOrder(statsRepository);
+		reads.verify(statsRepository).findRawStatsAfter(0, 2);
+		reads.verify(statsRepository).findRawStatsAfter(7, 2);
+		reads.verify(statsRepository).findRawStatsAfter(15, 2);
+		reads.verify(statsRepository).findRawStatsAfter(40, 2);
+		reads.verifyNoMoreInteractions();
+	}
+
+	@Test
+	void onlyRowsWhosePointsChangeAreWritten() {
+		table.add(skater(1, 2, 400));
+		table.add(skater(2, 1, 300));
+		table.add(skater(3, 0, 0));
+		table.add(skater(4, 3, 100));
+
+		int changed = service.rescoreAll();
+
+		assertThat(changed).isEqualTo(2);
+		assertThat(written).containsOnly(Map.entry(2L, 200L), Map.entry(4L, 600L));
+	}
+
+	@Test
+	void goaliesAreScoredWithShutoutsAndWins() {
+		table.add(goalie(1, 30, 0, true, 0));
+		table.add(goalie(2, 20, 3, false, 0));
+		table.add(goalie(3, 0, 0, false, 0));
+
+		service.rescoreAll();
+
+		// 30 saves + shutout + win; no shutout without a shot against
+		assertThat(written).containsOnly(Map.entry(1L, 1500L + 500L + 100L), Map.entry(2L, 1000L));
+	}
+
+	@Test
+	void aggregatesAreRebuiltAfterTheLastChunk() {
+		table.add(skater(1, 1, 0));
+
+		service.rescoreAll();
+
+		InOrder order = inOrder(statsRepository, lineupSnapshotService, teamRepository, teamWeekScoreService,
+				seasonTotalsService, standingsService, matchupService);
+		order.verify(statsRepository).updateFantasyPoints(any(), any());
+		order.verify(lineupSnapshotService).freezeMissingRosters();
+		order.verify(teamRepository).rebuildFantasyPoints();
+		order.verify(teamWeekScoreService).rebuild();
+		order.verify(seasonTotalsService).rebuild();
+		order.verify(standingsService).rebuild();
+		order.verify(matchupService).updateScoresForCurrentWeek();
+	}
+
+	@Test
+	void unchangedTableIsNotWritten() {
+		table.add(skater(1, 1, 200));
+
+		assertThat(service.rescoreAll()).isZero();
+		verify(statsRepository, never()).updateFantasyPoints(any(), any());
+	}
+
+	@Test
+	void secondRunWhileRunningReturnsImmediately() throws Exception {
+		CountDownLatch reading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(statsRepository.findRawStatsAfter(anyLong(), anyInt())).thenAnswer(inv -> {
+			reading.countDown();
+			release.await();
+			return Collections.emptyList();
+		});
+
+		CompletableFuture<Integer> first = CompletableFuture.supplyAsync(service::rescoreAll);
+		assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(service.rescoreAll()).isEqualTo(-1);
+
+		release.countDown();
+		assertThat(first.get(5, TimeUnit.SECONDS)).isZero();
+	}
+
+	// ==================== Helpers ====================
+
+	private static StoredStatLine skater(long id, int goals, long storedPoints) {
+		return new StoredStatLine(id, false, goals, 0, 0, 0, 0, 0, 0, 0, 0, 0, false, storedPoints);
+	}
+
+	private static StoredStatLine goalie(long id, int saves, int goalsAgainst, boolean win, long storedPoints) {
+		return new StoredStatLine(id, true, 0, 0, 0, 0, 0, 0, 0, saves, saves + goalsAgainst, goalsAgainst, win,
+				storedPoints);
+	}
+}
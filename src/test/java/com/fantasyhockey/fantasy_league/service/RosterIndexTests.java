@@ -0,0 +1,107 @@
+package com.fantasyhockey.fantasy_league.service;
+
+import com.fantasyhockey.fantasy_league.repository.FantasyTeamRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RosterIndexTests {
+
+	private final FantasyTeamRepository teamRepository = mock(FantasyTeamRepository.class);
+	private final RosterIndex index = new RosterIndex(teamRepository);
+
+	@BeforeEach
+	void setUp() {
+		// [team ID, player ID]
+		when(teamRepository.findAllRosterPairs()).thenReturn(List.of(
+				new Object[] { 1L, 10L },
+				new Object[] { 1L, 11L },
+				new Object[] { 2L, 20L }));
+		index.reload();
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void reloadIndexesEveryRosteredPlayer() {
+		assertThat(index.teamsOf(10L)).containsExactly(1L);
+		assertThat(index.teamsOf(20L)).containsExactly(2L);
+		assertThat(index.teamsOf(30L)).isEmpty();
+		assertThat(index.rosterSize(1L)).isEqualTo(2);
+		assertThat(index.owners()).containsOnlyKeys(10L, 11L, 20L).containsEntry(11L, 1L);
+	}
+
+	@Test
+	void changesWithoutATransactionApplyImmediately() {
+		index.playerAdded(30L, 2L);
+		index.playerRemoved(10L, 1L);
+
+		assertThat(index.teamsOf(30L)).containsExactly(2L);
+		assertThat(index.isRostered(10L)).isFalse();
+		assertThat(index.rosterSize(1L)).isEqualTo(1);
+	}
+
+	@Test
+	void changesApplyOnlyOnceTheTransactionCommits() {
+		TransactionSynchronizationManager.initSynchronization();
+
+		index.playerAdded(30L, 2L);
+		index.playerRemoved(10L, 1L);
+
+		assertThat(index.isRostered(30L)).isFalse();
+		assertThat(index.teamsOf(10L)).containsExactly(1L);
+
+		commit();
+
+		assertThat(index.teamsOf(30L)).containsExactly(2L);
+		assertThat(index.isRostered(10L)).isFalse();
+	}
+
+	@Test
+	void rolledBackChangesNeverReachTheIndex() {
+		TransactionSynchronizationManager.initSynchronization();
+
+		index.playerAdded(30L, 2L);
+		index.playerRemoved(10L, 1L);
+		rollback();
+
+		assertThat(index.isRostered(30L)).isFalse();
+		assertThat(index.teamsOf(10L)).containsExactly(1L);
+		assertThat(index.rosterSize(1L)).isEqualTo(2);
+	}
+
+	@Test
+	void removingAnotherTeamsPlayerChangesNothing() {
+		index.playerRemoved(20L, 1L);
+
+		assertThat(index.teamsOf(20L)).containsExactly(2L);
+	}
+
+	// ==================== Helpers ====================
+
+	private static void commit() {
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		TransactionSynchronizationManager.clearSynchronization();
+		synchronizations.forEach(TransactionSynchronization::afterCommit);
+		synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+	}
+
+	private static void rollback() {
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		TransactionSynchronizationManager.clearSynchronization();
+		synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+	}
+}
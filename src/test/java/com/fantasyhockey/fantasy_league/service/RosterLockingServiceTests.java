@@ -0,0 +1,150 @@
+package com.fantasyhockey.fantasy_league.service;
+
+import com.fantasyhockey.fantasy_league.client.NhlApiClient;
+import com.fantasyhockey.fantasy_league.dto.NhlScheduleResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RosterLockingServiceTests {
+
+	private final NhlApiClient nhlApiClient = mock(NhlApiClient.class);
+	private final RosterLockingService service = new RosterLockingService(nhlApiClient);
+
+	private final LocalDate today = LocalDate.now();
+	private final LocalDate yesterday = today.minusDays(1);
+
+	@Test
+	void startedGamesLockBothTeamsAndFutureGamesDoNot() {
+		scheduleIs(day(today,
+				game(-60, "LIVE", "TOR", "MTL"),
+				game(120, "FUT", "BOS", "NYR")));
+
+		service.refresh();
+
+		assertThat(service.getLocks().date()).isEqualTo(today);
+		assertThat(service.getLockedTeams()).containsExactlyInAnyOrder("TOR", "MTL");
+		assertThat(service.isLocked("BOS")).isFalse();
+		assertThat(service.getTeamGameStatuses()).containsEntry("TOR", "LIVE").containsEntry("NYR", "FUT");
+	}
+
+	@Test
+	void yesterdaysLocksLastUntilTodaysFirstPuckDrop() {
+		scheduleIs(
+				day(yesterday, game(-300, "LIVE", "VAN", "SEA"), game(-400, "OFF", "EDM", "CGY")),
+				day(today, game(60, "FUT", "TOR", "MTL")));
+
+		service.refresh();
+
+		assertThat(service.getLocks().date()).isEqualTo(yesterday);
+		assertThat(service.getLockedTeams()).containsExactlyInAnyOrder("VAN", "SEA", "EDM", "CGY");
+		// Yesterday's games are not shown on the Live Page
+		assertThat(service.getTeamGameStatuses()).containsOnlyKeys("TOR", "MTL");
+	}
+
+	@Test
+	void todaysFirstPuckDropReleasesYesterdaysLocks() {
+		scheduleIs(
+				day(yesterday, game(-300, "LIVE", "VAN", "SEA")),
+				day(today, game(-10, "LIVE", "TOR", "MTL"), game(60, "FUT", "BOS", "NYR")));
+
+		service.refresh();
+
+		assertThat(service.getLocks().date()).isEqualTo(today);
+		assertThat(service.getLockedTeams()).containsExactlyInAnyOrder("TOR", "MTL");
+	}
+
+	@Test
+	void finishedYesterdayLocksNothing() {
+		scheduleIs(
+				day(yesterday, game(-600, "OFF", "VAN", "SEA"), game(-500, "FINAL", "EDM", "CGY")),
+				day(today, game(60, "FUT", "TOR", "MTL")));
+
+		service.refresh();
+
+		assertThat(service.getLocks()).isEqualTo(RosterLockingService.Locks.NONE);
+		assertThat(service.getLockedTeams()).isEmpty();
+	}
+
+	@Test
+	void emptyScheduleLocksNothing() {
+		scheduleIs();
+
+		service.refresh();
+
+		assertThat(service.getLockedTeams()).isEmpty();
+		assertThat(service.getTeamGameStatuses()).isEmpty();
+	}
+
+	@Test
+	void failedRefreshKeepsTodaysTimeline() {
+		scheduleIs(day(today, game(-60, "LIVE", "TOR", "MTL")));
+		service.refresh();
+
+		when(nhlApiClient.getSchedule(any())).thenThrow(new IllegalStateException("network down"));
+		service.refresh();
+
+		assertThat(service.getLockedTeams()).containsExactlyInAnyOrder("TOR", "MTL");
+		assertThat(service.getTeamGameStatuses()).containsEntry("TOR", "LIVE");
+	}
+
+	@Test
+	void timelineBuiltOnAnEarlierDayIsNotServed() {
+		NhlScheduleResponse schedule = schedule(day(today, game(-60, "LIVE", "TOR", "MTL")));
+		Object stale = ReflectionTestUtils.invokeMethod(service, "buildTimeline", schedule, yesterday);
+		ReflectionTestUtils.setField(service, "timeline", stale);
+		when(nhlApiClient.getSchedule(any())).thenReturn(null);
+
+		service.refresh();
+
+		assertThat(service.getLockedTeams()).isEmpty();
+		assertThat(service.getTeamGameStatuses()).isEmpty();
+	}
+
+	// ==================== Helpers ====================
+
+	private void scheduleIs(NhlScheduleResponse.GameWeekDto... days) {
+		when(nhlApiClient.getSchedule(any())).thenReturn(schedule(days));
+	}
+
+	private static NhlScheduleResponse schedule(NhlScheduleResponse.GameWeekDto... days) {
+		NhlScheduleResponse schedule = new NhlScheduleResponse();
+		schedule.setGameWeek(List.of(days));
+		return schedule;
+	}
+
+	private static NhlScheduleResponse.GameWeekDto day(LocalDate date, NhlScheduleResponse.GameDto... games) {
+		NhlScheduleResponse.GameWeekDto day = new NhlScheduleResponse.GameWeekDto();
+		day.setDate(date.toString());
+		day.setGames(List.of(games));
+		return day;
+	}
+
+	/**
+	 * A game starting the given number of minutes from now (negative if it
+	 * has already started).
+	 */
+	private static NhlScheduleResponse.GameDto game(long startsInMinutes, String state, String home, String away) {
+		NhlScheduleResponse.GameDto game = new NhlScheduleResponse.GameDto();
+		game.setStartTimeUTC(Instant.now().plus(Duration.ofMinutes(startsInMinutes)).toString());
+		game.setGameState(state);
+		game.setHomeTeam(team(home));
+		game.setAwayTeam(team(away));
+		return game;
+	}
+
+	private static NhlScheduleResponse.TeamDto team(String abbrev) {
+		NhlScheduleResponse.TeamDto team = new NhlScheduleResponse.TeamDto();
+		team.setAbbrev(abbrev);
+		return team;
+	}
+}
@@ -0,0 +1,189 @@
+package com.fantasyhockey.fantasy_league.service;
+
+import com.fantasyhockey.fantasy_league.client.NhlApiClient;
+import com.fantasyhockey.fantasy_league.dto.GameBoxscore;
+import com.fantasyhockey.fantasy_league.dto.ScoredGame;
+import com.fantasyhockey.fantasy_league.service.StatsIngestionPipeline.GameRef;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StatsIngestionPipelineTests {
+
+	private static final LocalDate DATE = LocalDate.of(2025, 1, 15);
+
+	private final NhlApiClient nhlApiClient = mock(NhlApiClient.class);
+	private final PointsService pointsService = mock(PointsService.class);
+	private final RequestRateLimiter rateLimiter = mock(RequestRateLimiter.class);
+
+	private final AtomicInteger fetches = new AtomicInteger();
+	private final List<ScoredGame> recorded = Collections.synchronizedList(new ArrayList<>());
+
+	private StatsIngestionPipeline pipeline;
+
+	@BeforeEach
+	void setUp() {
+		when(nhlApiClient.getBoxscore(anyLong())).thenAnswer(inv -> {
+			fetches.incrementAndGet();
+			return new GameBoxscore(inv.getArgument(0), "OFF", 0, 0, List.of(), List.of());
+		});
+		when(pointsService.scoreGame(any(), any())).thenAnswer(inv -> {
+			GameBoxscore boxscore = inv.getArgument(0);
+			return new ScoredGame(boxscore.gameId(), inv.getArgument(1), List.of(), List.of());
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (pipeline != null) {
+			pipeline.stop();
+		}
+	}
+
+	@Test
+	void persistsEveryGameOnceBeforeReturning() {
+		recordInto(recorded);
+		pipeline = start(32, 2, 16, 8);
+
+		int persisted = pipeline.ingest(games(50));
+
+		assertThat(persisted).isEqualTo(50);
+		assertThat(recorded).hasSize(50);
+		assertThat(recorded).extracting(ScoredGame::gameId).containsExactlyInAnyOrderElementsOf(ids(50));
+		assertThat(recorded).extracting(ScoredGame::date).containsOnly(DATE);
+	}
+
+	@Test
+	void fullQueuesStopFetching() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		doAnswer(inv -> {
+			release.await();
+			recorded.addAll(inv.getArgument(0));
+			return null;
+		}).when(pointsService).recordScoredGames(anyList());
+		pipeline = start(2, 1, 1, 4);
+
+		CompletableFuture<Integer> result = CompletableFuture.supplyAsync(() -> pipeline.ingest(games(40)));
+
+		// 4 fetchers + 2 queues of 2 + one game held by each of score and persist
+		int inFlight = 4 + 2 * 2 + 2;
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (fetches.get() < inFlight && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		Thread.sleep(200);
+		assertThat(fetches.get()).isEqualTo(inFlight);
+		assertThat(result).isNotDone();
+
+		release.countDown();
+		assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(40);
+		assertThat(recorded).extracting(ScoredGame::gameId).containsExactlyInAnyOrderElementsOf(ids(40));
+	}
+
+	@Test
+	void failingGameDoesNotLoseTheRestOfItsBatch() {
+		doAnswer(inv -> {
+			List<ScoredGame> games = inv.getArgument(0);
+			if (games.stream().anyMatch(g -> g.gameId() == 7)) {
+				throw new IllegalStateException("bad game");
+			}
+			recorded.addAll(games);
+			return null;
+		}).when(pointsService).recordScoredGames(anyList());
+		pipeline = start(32, 1, 16, 8);
+
+		int persisted = pipeline.ingest(games(20));
+
+		assertThat(persisted).isEqualTo(19);
+		assertThat(recorded).extracting(ScoredGame::gameId).hasSize(19).doesNotContain(7L);
+	}
+
+	@Test
+	void failedFetchIsNotWaitedFor() {
+		recordInto(recorded);
+		when(nhlApiClient.getBoxscore(3L)).thenThrow(new IllegalStateException("network down"));
+		pipeline = start(32, 2, 16, 8);
+
+		assertThat(pipeline.ingest(games(5))).isEqualTo(4);
+	}
+
+	@Test
+	void gamesNotOfficialYetAreNotPersisted() {
+		recordInto(recorded);
+		when(nhlApiClient.getBoxscore(2L)).thenReturn(new GameBoxscore(2L, "LIVE", 1, 0, List.of(), List.of()));
+		when(nhlApiClient.getBoxscore(4L)).thenReturn(new GameBoxscore(4L, "FINAL", 3, 2, List.of(), List.of()));
+		pipeline = start(32, 2, 16, 8);
+
+		assertThat(pipeline.ingest(games(5))).isEqualTo(3);
+		assertThat(recorded).extracting(ScoredGame::gameId).containsExactlyInAnyOrder(1L, 3L, 5L);
+	}
+
+	@Test
+	void singleGameCallsReuseTheWorkers() {
+		recordInto(recorded);
+		pipeline = start(32, 2, 16, 8);
+		Set<Thread> workers = ingestThreads();
+
+		for (long gameId = 1; gameId <= 5; gameId++) {
+			assertThat(pipeline.ingest(List.of(new GameRef(gameId, DATE)))).isEqualTo(1);
+		}
+
+		assertThat(workers).containsAll(ingestThreads());
+		assertThat(recorded).hasSize(5);
+	}
+
+	// ==================== Helpers ====================
+
+	private StatsIngestionPipeline start(int queueCapacity, int threads, int batchSize, int fetchConcurrency) {
+		StatsIngestionPipeline started = new StatsIngestionPipeline(nhlApiClient, pointsService, rateLimiter);
+		ReflectionTestUtils.setField(started, "fetchConcurrency", fetchConcurrency);
+		ReflectionTestUtils.setField(started, "scoreThreads", threads);
+		ReflectionTestUtils.setField(started, "persistThreads", threads);
+		ReflectionTestUtils.setField(started, "persistBatchSize", batchSize);
+		ReflectionTestUtils.setField(started, "queueCapacity", queueCapacity);
+		started.start();
+		return started;
+	}
+
+	private void recordInto(List<ScoredGame> target) {
+		doAnswer(inv -> {
+			target.addAll(inv.getArgument(0));
+			return null;
+		}).when(pointsService).recordScoredGames(anyList());
+	}
+
+	private static List<GameRef> games(int count) {
+		return ids(count).stream().map(id -> new GameRef(id, DATE)).toList();
+	}
+
+	private static List<Long> ids(int count) {
+		return LongStream.rangeClosed(1, count).boxed().toList();
+	}
+
+	private static Set<Thread> ingestThreads() {
+		return Thread.getAllStackTraces().keySet().stream()
+				.filter(t -> t.getName().startsWith("ingest-"))
+				.collect(Collectors.toSet());
+	}
+}